@@ -0,0 +1,84 @@
+package bricker.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class reads and writes benchmark baselines as CSV, so results of two releases can be
+ * stored next to each other and compared.
+ */
+public class BaselineFile {
+    static final String SEPARATOR = ",";
+    private static final String HEADER = "benchmark,param,ns_per_op";
+    private static final int NAME_COLUMN = 0;
+    private static final int PARAM_COLUMN = 1;
+    private static final int VALUE_COLUMN = 2;
+    private static final int COLUMNS = 3;
+    private static final double PERCENT = 100;
+
+    private BaselineFile() {
+    }
+
+    /**
+     * Writes results to a CSV file, replacing it if it exists.
+     * @param path    File to write.
+     * @param results Results to write.
+     * @throws IOException If the file can't be written.
+     */
+    public static void write(Path path, List<BenchmarkResult> results) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        for (BenchmarkResult result : results) {
+            lines.add(result.key() + SEPARATOR + String.format("%.1f", result.getNanosPerOp()));
+        }
+        Files.write(path, lines);
+    }
+
+    /**
+     * Reads results from a CSV file written by write.
+     * @param path File to read.
+     * @return Map from benchmark key to nanoseconds per operation, in file order.
+     * @throws IOException If the file can't be read.
+     */
+    public static Map<String, Double> read(Path path) throws IOException {
+        Map<String, Double> baseline = new LinkedHashMap<>();
+        for (String line : Files.readAllLines(path)) {
+            String[] columns = line.split(SEPARATOR);
+            if (line.equals(HEADER) || columns.length != COLUMNS) {
+                continue;
+            }
+            baseline.put(columns[NAME_COLUMN] + SEPARATOR + columns[PARAM_COLUMN],
+                    Double.parseDouble(columns[VALUE_COLUMN]));
+        }
+        return baseline;
+    }
+
+    /**
+     * Formats a comparison of new results against a baseline, one line per benchmark.
+     * Positive change means the benchmark got slower.
+     * @param baseline Baseline read from a previous run.
+     * @param results  Results of this run.
+     * @return Lines describing the change of each benchmark.
+     */
+    public static List<String> compare(Map<String, Double> baseline,
+                                       List<BenchmarkResult> results) {
+        List<String> lines = new ArrayList<>();
+        for (BenchmarkResult result : results) {
+            Double old = baseline.get(result.key());
+            if (old == null) {
+                lines.add(String.format("%-50s %12.1f ns/op (new)", result.key(),
+                        result.getNanosPerOp()));
+            } else {
+                double change = (result.getNanosPerOp() - old) / old * PERCENT;
+                lines.add(String.format("%-50s %12.1f ns/op %+7.1f%%", result.key(),
+                        result.getNanosPerOp(), change));
+            }
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,38 @@
+package bricker.bench;
+
+import bricker.main.BrickerGameManager;
+import bricker.main.HeadlessImageReader;
+import bricker.main.HeadlessInputListener;
+import bricker.main.HeadlessSoundReader;
+import bricker.main.HeadlessWindowController;
+import danogl.util.Vector2;
+
+/**
+ * This class creates headless Bricker games for benchmarks.
+ */
+public class BenchmarkGames {
+    private static final String WINDOW_NAME = "Brick";
+    static final Vector2 WINDOW_DIMENSIONS = new Vector2(700, 500);
+    // fixed so every run benchmarks the same boards and power-up rolls
+    private static final long SEED = 42;
+
+    private BenchmarkGames() {
+    }
+
+    /**
+     * Creates and initializes a headless game that answers every dialog with "play again".
+     * @param rows    Number of brick rows.
+     * @param columns Number of brick columns.
+     * @return An initialized game ready to be updated.
+     */
+    public static BrickerGameManager newGame(int rows, int columns) {
+        HeadlessWindowController windowController = new HeadlessWindowController(
+                WINDOW_DIMENSIONS, (message, answered) -> true);
+        BrickerGameManager game = new BrickerGameManager(WINDOW_NAME, WINDOW_DIMENSIONS,
+                new Vector2(columns, rows), SEED);
+        game.initializeGame(new HeadlessImageReader(windowController),
+                new HeadlessSoundReader(windowController), new HeadlessInputListener(),
+                windowController);
+        return game;
+    }
+}
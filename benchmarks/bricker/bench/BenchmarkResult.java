@@ -0,0 +1,55 @@
+package bricker.bench;
+
+/**
+ * This class holds one benchmark measurement: which benchmark ran, with what parameter,
+ * and how many nanoseconds a single operation took.
+ */
+public class BenchmarkResult {
+    private final String name;
+    private final String param;
+    private final double nanosPerOp;
+
+    /**
+     * Constructor for BenchmarkResult.
+     * @param name       Benchmark name.
+     * @param param      Parameter the benchmark ran with (e.g. grid size).
+     * @param nanosPerOp Median nanoseconds per operation.
+     */
+    public BenchmarkResult(String name, String param, double nanosPerOp) {
+        this.name = name;
+        this.param = param;
+        this.nanosPerOp = nanosPerOp;
+    }
+
+    /**
+     * Getter for the benchmark name.
+     * @return Benchmark name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Getter for the benchmark parameter.
+     * @return Benchmark parameter.
+     */
+    public String getParam() {
+        return param;
+    }
+
+    /**
+     * Getter for nanoseconds per operation.
+     * @return Median nanoseconds per operation.
+     */
+    public double getNanosPerOp() {
+        return nanosPerOp;
+    }
+
+    /**
+     * Key identifying this measurement in a baseline file.
+     * @return Name and parameter joined together.
+     */
+    public String key() {
+        return name + BaselineFile.SEPARATOR + param;
+    }
+}
@@ -0,0 +1,58 @@
+package bricker.bench;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class runs all Bricker benchmarks headless, writes the results as a CSV baseline and,
+ * if given a previous baseline, prints how each benchmark changed.
+ */
+public class BenchmarkRunner {
+    private static final String OUT_OPTION = "--out";
+    private static final String BASELINE_OPTION = "--baseline";
+    private static final String DEFAULT_OUT = "bench-results.csv";
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASURED_ITERATIONS = 10;
+
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Main method of the benchmarks.
+     * @param args Command arguments: [--out results.csv] [--baseline previous.csv].
+     * @throws IOException If a baseline file can't be read or written.
+     */
+    public static void main(String[] args) throws IOException {
+        Path out = Paths.get(DEFAULT_OUT);
+        Path baseline = null;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (args[i].equals(OUT_OPTION)) {
+                out = Paths.get(args[i + 1]);
+            } else if (args[i].equals(BASELINE_OPTION)) {
+                baseline = Paths.get(args[i + 1]);
+            } else {
+                throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        Measurement measurement = new Measurement(WARMUP_ITERATIONS, MEASURED_ITERATIONS);
+        List<BenchmarkResult> results = new ArrayList<>();
+        FrameBenchmarks.run(measurement, results);
+        StrategyBenchmarks.run(measurement, results);
+        SnapshotBenchmarks.run(measurement, results);
+        BaselineFile.write(out, results);
+        if (baseline != null) {
+            Map<String, Double> previous = BaselineFile.read(baseline);
+            for (String line : BaselineFile.compare(previous, results)) {
+                System.out.println(line);
+            }
+        } else {
+            for (BenchmarkResult result : results) {
+                System.out.printf("%-50s %12.1f ns/op%n", result.key(), result.getNanosPerOp());
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package bricker.bench;
+
+import bricker.main.BrickerGameManager;
+import danogl.util.Vector2;
+
+import java.util.List;
+
+/**
+ * This class benchmarks a full BrickerGameManager frame: different brick grid sizes, and
+ * different numbers of puck balls in flight. It also times restarting a game in place,
+ * which should not take longer than a frame.
+ */
+public class FrameBenchmarks {
+    private static final String GRID_BENCHMARK = "frame.grid";
+    private static final String PUCKS_BENCHMARK = "frame.pucks";
+    private static final String RESTART_BENCHMARK = "frame.restart";
+    private static final int RESTARTS_PER_ITERATION = 20;
+    private static final int[][] GRIDS = {{7, 8}, {20, 20}, {50, 50}, {100, 100}};
+    private static final int[] PUCK_COUNTS = {0, 16, 64, 256};
+    private static final int PUCK_ROWS = 7;
+    private static final int PUCK_COLUMNS = 8;
+    private static final Vector2 PUCK_SPAWN = new Vector2(350, 300);
+    private static final float FRAME_DELTA = 1f / 60;
+    private static final int FRAMES_PER_ITERATION = 200;
+    private static final String GRID_FORMAT = "%dx%d";
+
+    private FrameBenchmarks() {
+    }
+
+    /**
+     * Runs all frame benchmarks.
+     * @param measurement Measurement settings.
+     * @param results     List the results are added to.
+     */
+    public static void run(Measurement measurement, List<BenchmarkResult> results) {
+        for (int[] grid : GRIDS) {
+            int rows = grid[0];
+            int columns = grid[1];
+            double nanos = measurement.nanosPerOp(FRAMES_PER_ITERATION, () -> {
+                BrickerGameManager game = BenchmarkGames.newGame(rows, columns);
+                return () -> runFrames(game);
+            });
+            results.add(new BenchmarkResult(GRID_BENCHMARK,
+                    String.format(GRID_FORMAT, rows, columns), nanos));
+        }
+        for (int pucks : PUCK_COUNTS) {
+            double nanos = measurement.nanosPerOp(FRAMES_PER_ITERATION, () -> {
+                BrickerGameManager game = BenchmarkGames.newGame(PUCK_ROWS, PUCK_COLUMNS);
+                for (int i = 0; i < pucks; i++) {
+                    game.createPuckBall(PUCK_SPAWN);
+                }
+                return () -> runFrames(game);
+            });
+            results.add(new BenchmarkResult(PUCKS_BENCHMARK, Integer.toString(pucks), nanos));
+        }
+        for (int[] grid : GRIDS) {
+            int rows = grid[0];
+            int columns = grid[1];
+            double nanos = measurement.nanosPerOp(RESTARTS_PER_ITERATION, () -> {
+                BrickerGameManager game = BenchmarkGames.newGame(rows, columns);
+                return () -> {
+                    for (int i = 0; i < RESTARTS_PER_ITERATION; i++) {
+                        game.restartGame();
+                    }
+                };
+            });
+            results.add(new BenchmarkResult(RESTART_BENCHMARK,
+                    String.format(GRID_FORMAT, rows, columns), nanos));
+        }
+    }
+
+    /**
+     * Steps a game for one measured iteration.
+     * @param game Game to update.
+     */
+    private static void runFrames(BrickerGameManager game) {
+        for (int i = 0; i < FRAMES_PER_ITERATION; i++) {
+            game.update(FRAME_DELTA);
+        }
+    }
+}
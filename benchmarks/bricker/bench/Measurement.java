@@ -0,0 +1,45 @@
+package bricker.bench;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * This class times benchmark bodies. Every iteration gets a freshly prepared body (setup is
+ * not timed), warmup iterations are thrown away, and the median of the rest is reported.
+ */
+public class Measurement {
+    private static final int HALF = 2;
+    private final int warmupIterations;
+    private final int measuredIterations;
+
+    /**
+     * Constructor for Measurement.
+     * @param warmupIterations   Iterations to run and discard before measuring.
+     * @param measuredIterations Iterations to measure.
+     */
+    public Measurement(int warmupIterations, int measuredIterations) {
+        this.warmupIterations = warmupIterations;
+        this.measuredIterations = measuredIterations;
+    }
+
+    /**
+     * Measures a benchmark body.
+     * @param opsPerIteration Number of operations the body performs each time it runs.
+     * @param setup           Prepares fresh state and returns the body to time.
+     * @return Median nanoseconds per operation over the measured iterations.
+     */
+    public double nanosPerOp(int opsPerIteration, Supplier<Runnable> setup) {
+        for (int i = 0; i < warmupIterations; i++) {
+            setup.get().run();
+        }
+        double[] samples = new double[measuredIterations];
+        for (int i = 0; i < measuredIterations; i++) {
+            Runnable body = setup.get();
+            long start = System.nanoTime();
+            body.run();
+            samples[i] = (double) (System.nanoTime() - start) / opsPerIteration;
+        }
+        Arrays.sort(samples);
+        return samples[samples.length / HALF];
+    }
+}
@@ -0,0 +1,70 @@
+package bricker.bench;
+
+import bricker.main.BrickerGameManager;
+import danogl.util.Vector2;
+
+import java.util.List;
+
+/**
+ * This class benchmarks saving and restoring a game snapshot, at different brick grid sizes
+ * with a few puck balls in flight.
+ */
+public class SnapshotBenchmarks {
+    private static final String SAVE_BENCHMARK = "snapshot.save";
+    private static final String RESTORE_BENCHMARK = "snapshot.restore";
+    private static final int[][] GRIDS = {{7, 8}, {20, 20}, {50, 50}};
+    private static final int PUCKS = 16;
+    private static final Vector2 PUCK_SPAWN = new Vector2(350, 300);
+    private static final int OPS_PER_ITERATION = 100;
+    private static final String GRID_FORMAT = "%dx%d";
+
+    private SnapshotBenchmarks() {
+    }
+
+    /**
+     * Runs all snapshot benchmarks.
+     * @param measurement Measurement settings.
+     * @param results     List the results are added to.
+     */
+    public static void run(Measurement measurement, List<BenchmarkResult> results) {
+        for (int[] grid : GRIDS) {
+            int rows = grid[0];
+            int columns = grid[1];
+            String parameter = String.format(GRID_FORMAT, rows, columns);
+            double saveNanos = measurement.nanosPerOp(OPS_PER_ITERATION, () -> {
+                BrickerGameManager game = newGame(rows, columns);
+                return () -> {
+                    for (int i = 0; i < OPS_PER_ITERATION; i++) {
+                        game.saveSnapshot();
+                    }
+                };
+            });
+            results.add(new BenchmarkResult(SAVE_BENCHMARK, parameter, saveNanos));
+            double restoreNanos = measurement.nanosPerOp(OPS_PER_ITERATION, () -> {
+                BrickerGameManager game = newGame(rows, columns);
+                byte[] snapshot = game.saveSnapshot();
+                return () -> {
+                    for (int i = 0; i < OPS_PER_ITERATION; i++) {
+                        game.restoreSnapshot(snapshot);
+                    }
+                };
+            });
+            results.add(new BenchmarkResult(RESTORE_BENCHMARK, parameter, restoreNanos));
+        }
+    }
+
+    /**
+     * Creates a game with puck balls in flight.
+     * @param rows    Rows of bricks.
+     * @param columns Bricks per row.
+     * @return The game.
+     */
+    private static BrickerGameManager newGame(int rows, int columns) {
+        BrickerGameManager game = BenchmarkGames.newGame(rows, columns);
+        for (int i = 0; i < PUCKS; i++) {
+            game.createPuckBall(PUCK_SPAWN);
+        }
+        game.update(0);
+        return game;
+    }
+}
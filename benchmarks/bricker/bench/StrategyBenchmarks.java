@@ -0,0 +1,109 @@
+package bricker.bench;
+
+import bricker.brick_strategies.BasicCollisionStrategy;
+import bricker.brick_strategies.CollisionStrategy;
+import bricker.brick_strategies.DoubleCollisionStrategy;
+import bricker.brick_strategies.ExtraBallStrategy;
+import bricker.brick_strategies.ExtraHeartReturnStrategy;
+import bricker.brick_strategies.ExtraPaddleCollision;
+import bricker.brick_strategies.TurboCollision;
+import bricker.gameobjects.Ball;
+import bricker.gameobjects.Brick;
+import bricker.main.BrickerGameManager;
+import danogl.util.Vector2;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * This class benchmarks a single brick hit for each CollisionStrategy, including nested
+ * DoubleCollisionStrategy chains (resolved into one to three special behaviors). Each
+ * iteration hits a fresh batch of bricks once each.
+ */
+public class StrategyBenchmarks {
+    private static final String STRATEGY_BENCHMARK = "strategy.hit";
+    private static final int BRICKS_PER_ITERATION = 500;
+    private static final int ROWS = 7;
+    private static final int COLUMNS = 8;
+    private static final int MAX_DOUBLE_DEPTH = 3;
+    private static final String DOUBLE_NAME = "double";
+    private static final String DEPTH_SEPARATOR = "x";
+    private static final Vector2 BRICK_DIM = new Vector2(80, 20);
+    private static final Vector2 BALL_DIM = new Vector2(20, 20);
+    private static final Vector2 BRICK_POSITION = new Vector2(100, 100);
+    private static final CollisionStrategy NO_REMOVAL = (object1, object2) -> { };
+
+    private StrategyBenchmarks() {
+    }
+
+    /**
+     * Runs all strategy benchmarks.
+     * @param measurement Measurement settings.
+     * @param results     List the results are added to.
+     */
+    public static void run(Measurement measurement, List<BenchmarkResult> results) {
+        for (Map.Entry<String, Function<BrickerGameManager, CollisionStrategy>> entry :
+                strategies().entrySet()) {
+            double nanos = measurement.nanosPerOp(BRICKS_PER_ITERATION,
+                    () -> prepareHits(entry.getValue()));
+            results.add(new BenchmarkResult(STRATEGY_BENCHMARK, entry.getKey(), nanos));
+        }
+    }
+
+    /**
+     * Builds every strategy the factory can produce, plus nested double chains.
+     * @return Map from strategy name to a function creating it for a game.
+     */
+    private static Map<String, Function<BrickerGameManager, CollisionStrategy>> strategies() {
+        Map<String, Function<BrickerGameManager, CollisionStrategy>> strategies =
+                new LinkedHashMap<>();
+        strategies.put("basic", BasicCollisionStrategy::new);
+        strategies.put("extraBall", game ->
+                new ExtraBallStrategy(game, new BasicCollisionStrategy(game)));
+        strategies.put("extraPaddle", game ->
+                new ExtraPaddleCollision(game, new BasicCollisionStrategy(game)));
+        strategies.put("turbo", game ->
+                new TurboCollision(game, new BasicCollisionStrategy(game)));
+        strategies.put("extraHeart", game ->
+                new ExtraHeartReturnStrategy(game, new BasicCollisionStrategy(game)));
+        for (int depth = 1; depth <= MAX_DOUBLE_DEPTH; depth++) {
+            int behaviorsCount = depth;
+            strategies.put(DOUBLE_NAME + DEPTH_SEPARATOR + depth, game -> {
+                // the factory flattens nested doubles into one list of special behaviors
+                CollisionStrategy[] specials = {
+                        new ExtraBallStrategy(game, NO_REMOVAL),
+                        new TurboCollision(game, NO_REMOVAL),
+                        new ExtraHeartReturnStrategy(game, NO_REMOVAL)};
+                CollisionStrategy[] behaviors = new CollisionStrategy[behaviorsCount];
+                System.arraycopy(specials, 0, behaviors, 0, behaviorsCount);
+                return new DoubleCollisionStrategy(new BasicCollisionStrategy(game), behaviors);
+            });
+        }
+        return strategies;
+    }
+
+    /**
+     * Creates a game with a batch of bricks using the given strategy, and returns the body
+     * that hits each of them once.
+     * @param strategyCreator Creates the strategy for each brick.
+     * @return Body to time.
+     */
+    private static Runnable prepareHits(
+            Function<BrickerGameManager, CollisionStrategy> strategyCreator) {
+        BrickerGameManager game = BenchmarkGames.newGame(ROWS, COLUMNS);
+        Ball ball = new Ball(Vector2.ZERO, BALL_DIM, null, null, game);
+        Brick[] bricks = new Brick[BRICKS_PER_ITERATION];
+        CollisionStrategy[] strategies = new CollisionStrategy[BRICKS_PER_ITERATION];
+        for (int i = 0; i < bricks.length; i++) {
+            strategies[i] = strategyCreator.apply(game);
+            bricks[i] = new Brick(BRICK_POSITION, BRICK_DIM, null, strategies[i], game);
+        }
+        return () -> {
+            for (int i = 0; i < bricks.length; i++) {
+                strategies[i].onCollision(bricks[i], ball);
+            }
+        };
+    }
+}
@@ -1,34 +1,72 @@
 package bricker.brick_strategies;
 
 import bricker.main.BrickerGameManager;
-import java.util.Random;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
 
 /**
  * This class is a factory that creates collision strategies according to the
- * required probabilities (detailed below).
+ * required probabilities (detailed below). Strategies hold no per-brick state, so the
+ * factory creates each of them once per game and shares it between all bricks. Double
+ * strategies are rolled when the brick is created and resolved into a flat list of behaviors,
+ * so hitting a brick never allocates strategies.
  */
 public class BrickerCollisionStrategyFactory {
-    private static final int MAGIC_10 = 10;
-    private static final int EXTRA_BALL_STRATEGY = 5;
-    private static final int EXTRA_PADDLE_STRATEGY = 6;
-    private static final int TURBO_STRATEGY = 7;
-    private static final int EXTRA_HEART_STRATEGY = 8;
-    private static final int DOUBLE_STRATEGY = 9;
-    private final BrickerGameManager brickerGameManager;
-    private final Random random;
+    /** Strategy id of the basic strategy (any id without a special strategy means basic). */
+    public static final int BASIC_STRATEGY = 0;
+    /** Strategy id of the extra ball strategy. */
+    public static final int EXTRA_BALL_STRATEGY = 5;
+    /** Strategy id of the extra paddle strategy. */
+    public static final int EXTRA_PADDLE_STRATEGY = 6;
+    /** Strategy id of the turbo strategy. */
+    public static final int TURBO_STRATEGY = 7;
+    /** Strategy id of the extra heart strategy. */
+    public static final int EXTRA_HEART_STRATEGY = 8;
+    /** Strategy id of the double strategy. */
+    public static final int DOUBLE_STRATEGY = 9;
+    private static final int DOUBLE_BEHAVIORS = 2;
+    private static final int MAX_SPECIAL_BEHAVIORS = 3;
+    // used as the base of special behaviors inside a double strategy, which removes the
+    // brick only once
+    private static final CollisionStrategy NO_REMOVAL = (object1, object2) -> { };
+    private final SplittableRandom random;
+    private final int strategyRollRange;
+    private final CollisionStrategy basicStrategy;
+    private final CollisionStrategy extraBallStrategy;
+    private final CollisionStrategy extraPaddleStrategy;
+    private final CollisionStrategy turboStrategy;
+    private final CollisionStrategy extraHeartStrategy;
+    private final CollisionStrategy extraBallBehavior;
+    private final CollisionStrategy extraPaddleBehavior;
+    private final CollisionStrategy turboBehavior;
+    private final CollisionStrategy extraHeartBehavior;
 
     /**
      * Constructor for BrickerCollisionStrategyFactory.
-     * @param brickergameManager Instance of BrickerGameManager.
+     * @param brickerGameManager Instance of BrickerGameManager.
+     * @param random             Random stream the strategies are rolled from.
      */
-    public BrickerCollisionStrategyFactory(BrickerGameManager brickerGameManager) {
-        this.brickerGameManager = brickerGameManager;
-        this.random = new Random();
+    public BrickerCollisionStrategyFactory(BrickerGameManager brickerGameManager,
+                                           SplittableRandom random) {
+        this.random = random;
+        this.strategyRollRange = brickerGameManager.getTuning().getStrategyRollRange();
+        this.basicStrategy = new BasicCollisionStrategy(brickerGameManager);
+        this.extraBallStrategy = new ExtraBallStrategy(brickerGameManager, basicStrategy);
+        this.extraPaddleStrategy = new ExtraPaddleCollision(brickerGameManager, basicStrategy);
+        this.turboStrategy = new TurboCollision(brickerGameManager, basicStrategy);
+        this.extraHeartStrategy = new ExtraHeartReturnStrategy(brickerGameManager, basicStrategy);
+        this.extraBallBehavior = new ExtraBallStrategy(brickerGameManager, NO_REMOVAL);
+        this.extraPaddleBehavior = new ExtraPaddleCollision(brickerGameManager, NO_REMOVAL);
+        this.turboBehavior = new TurboCollision(brickerGameManager, NO_REMOVAL);
+        this.extraHeartBehavior = new ExtraHeartReturnStrategy(brickerGameManager, NO_REMOVAL);
     }
     /**
      * Creates a collision strategy based on random selection.
      * The method generates a random number [0,10) to decide which special collision strategy,
-     * to create, based on the following requirements:
+     * to create, based on the following requirements (for the default roll range of 10,
+     * see GameTuning):
      *  50% Basic behavior
      *  50% Special behaviors-
      *      10% Extra ball
@@ -39,15 +77,106 @@ public class BrickerCollisionStrategyFactory {
      * @return A CollisionStrategy instance representing the selected strategy.
      */
     public CollisionStrategy createStrategy() {
-        CollisionStrategy basicStrategy = new BasicCollisionStrategy(brickerGameManager);
-        int rand = random.nextInt(MAGIC_10);
-        return switch (rand) {
-            case EXTRA_BALL_STRATEGY -> new ExtraBallStrategy(this.brickerGameManager, basicStrategy);
-            case EXTRA_PADDLE_STRATEGY -> new ExtraPaddleCollision(this.brickerGameManager, basicStrategy);
-            case TURBO_STRATEGY -> new TurboCollision(this.brickerGameManager, basicStrategy);
-            case EXTRA_HEART_STRATEGY -> new ExtraHeartReturnStrategy(this.brickerGameManager, basicStrategy);
-            case DOUBLE_STRATEGY -> new DoubleCollisionStrategy(this.brickerGameManager, basicStrategy);
-            default -> new BasicCollisionStrategy(this.brickerGameManager);
+        return createStrategy(rollStrategyId());
+    }
+
+    /**
+     * Chooses a strategy id at random, with the probabilities described in createStrategy.
+     * The id can be stored compactly and turned into a strategy later.
+     * @return Strategy id in the range [0,roll range).
+     */
+    public int rollStrategyId() {
+        return random.nextInt(strategyRollRange);
+    }
+
+    /**
+     * Returns the collision strategy matching a strategy id. Single strategies are shared
+     * between bricks; a double strategy is rolled now and returned as a new
+     * DoubleCollisionStrategy holding its resolved behaviors.
+     * @param strategyId Strategy id, as returned by rollStrategyId.
+     * @return A CollisionStrategy instance representing the strategy.
+     */
+    public CollisionStrategy createStrategy(int strategyId) {
+        return switch (strategyId) {
+            case EXTRA_BALL_STRATEGY -> extraBallStrategy;
+            case EXTRA_PADDLE_STRATEGY -> extraPaddleStrategy;
+            case TURBO_STRATEGY -> turboStrategy;
+            case EXTRA_HEART_STRATEGY -> extraHeartStrategy;
+            case DOUBLE_STRATEGY -> createDoubleStrategy();
+            default -> basicStrategy;
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * Rolls a double strategy: the basic behavior plus two rolls, each of which may add a
+     * special behavior or another double. The total number of special behaviors, including
+     * nested doubles, is capped at MAX_SPECIAL_BEHAVIORS (3).
+     * @return Double strategy with its behaviors resolved.
+     */
+    private CollisionStrategy createDoubleStrategy() {
+        List<CollisionStrategy> behaviors = new ArrayList<>(MAX_SPECIAL_BEHAVIORS);
+        rollDoubleBehaviors(behaviors);
+        return new DoubleCollisionStrategy(basicStrategy,
+                behaviors.toArray(new CollisionStrategy[0]));
+    }
+
+    /**
+     * Performs a double strategy's two rolls, adding the chosen special behaviors.
+     * @param behaviors Special behaviors chosen so far.
+     */
+    private void rollDoubleBehaviors(List<CollisionStrategy> behaviors) {
+        for (int i = 0; i < DOUBLE_BEHAVIORS; i++) {
+            if (behaviors.size() >= MAX_SPECIAL_BEHAVIORS) return;
+            int rand = random.nextInt(strategyRollRange); //generate random value in the roll range
+            switch (rand) {
+                case EXTRA_BALL_STRATEGY: behaviors.add(extraBallBehavior);
+                break;
+                case EXTRA_PADDLE_STRATEGY: behaviors.add(extraPaddleBehavior);
+                break;
+                case TURBO_STRATEGY: behaviors.add(turboBehavior);
+                break;
+                case EXTRA_HEART_STRATEGY: behaviors.add(extraHeartBehavior);
+                break;
+                case DOUBLE_STRATEGY: rollDoubleBehaviors(behaviors);
+                break;
+                default:
+                break;
+            }
+        }
+    }
+
+    /**
+     * Returns the strategy id identifying a special behavior of a double strategy, so that
+     * a rolled double strategy can be stored and created again with createDoubleStrategy.
+     * @param behavior Behavior returned by DoubleCollisionStrategy.getBehaviors.
+     * @return Strategy id of the behavior.
+     * @throws IllegalArgumentException If the behavior was not created by this factory.
+     */
+    public int behaviorId(CollisionStrategy behavior) {
+        if (behavior == extraBallBehavior) return EXTRA_BALL_STRATEGY;
+        if (behavior == extraPaddleBehavior) return EXTRA_PADDLE_STRATEGY;
+        if (behavior == turboBehavior) return TURBO_STRATEGY;
+        if (behavior == extraHeartBehavior) return EXTRA_HEART_STRATEGY;
+        throw new IllegalArgumentException("Unknown double strategy behavior: " + behavior);
+    }
+
+    /**
+     * Creates a double strategy with given behaviors instead of rolling them.
+     * @param behaviorIds Strategy ids of the behaviors, as returned by behaviorId.
+     * @return Double strategy running the given behaviors.
+     */
+    public CollisionStrategy createDoubleStrategy(int[] behaviorIds) {
+        CollisionStrategy[] behaviors = new CollisionStrategy[behaviorIds.length];
+        for (int i = 0; i < behaviorIds.length; i++) {
+            behaviors[i] = switch (behaviorIds[i]) {
+                case EXTRA_BALL_STRATEGY -> extraBallBehavior;
+                case EXTRA_PADDLE_STRATEGY -> extraPaddleBehavior;
+                case TURBO_STRATEGY -> turboBehavior;
+                case EXTRA_HEART_STRATEGY -> extraHeartBehavior;
+                default -> throw new IllegalArgumentException(
+                        "Unknown double strategy behavior id: " + behaviorIds[i]);
+            };
+        }
+        return new DoubleCollisionStrategy(basicStrategy, behaviors);
+    }
+}
@@ -2,7 +2,6 @@ package bricker.brick_strategies;
 
 import bricker.main.BrickerGameManager;
 import danogl.GameObject;
-import danogl.collisions.Layer;
 
 /**
  * This class implements extra paddle strategy: when game ball hits brick,
@@ -12,6 +11,7 @@ import danogl.collisions.Layer;
  */
 public class ExtraPaddleCollision implements CollisionStrategy {
     private final BrickerGameManager gameManager;
+    private final CollisionStrategy collisionStrategy;
 
     /**
      * Constructor for ExtraPaddleCollision.
@@ -22,16 +22,18 @@ public class ExtraPaddleCollision implements CollisionStrategy {
     public ExtraPaddleCollision(BrickerGameManager brickerGameManager,
                                 CollisionStrategy collisionStrategy) {
         this.gameManager = brickerGameManager;
+        this.collisionStrategy = collisionStrategy;
     }
     /**
      * Handles Collision between the brick and another game object.
-     * In addition to the brick is removed from the game, extra paddle is being created.
+     * The wrapped strategy handles the brick (e.g. removes it from the game), and an extra
+     * paddle is being created.
      * @param object1 Brick object.
      * @param object2 Other game object.
      */
     @Override
     public void onCollision(GameObject object1, GameObject object2) {
+        this.collisionStrategy.onCollision(object1, object2);
         gameManager.createExtraPaddle();
-        gameManager.deleteGameObject(object1, Layer.DEFAULT);
     }
 }
@@ -2,6 +2,7 @@ package bricker.brick_strategies;
 
 import bricker.main.BrickerGameManager;
 import bricker.gameobjects.Ball;
+import bricker.gameobjects.EntityKind;
 import danogl.GameObject;
 
 /**
@@ -12,8 +13,6 @@ import danogl.GameObject;
  * there's an additional strategy.
  */
 public class TurboCollision implements CollisionStrategy {
-    private static final String BRICK_NAMETAG = "brick";
-    private static final float VELOCITY_FACTOR = 1.4F;
     private static final int RESET_THRESHOLD = 3;
     private final BrickerGameManager brickerGameManager;
     private CollisionStrategy collisionStrategy;
@@ -37,7 +36,8 @@ public class TurboCollision implements CollisionStrategy {
     @Override
     public void onCollision(GameObject object1, GameObject object2) {
         this.collisionStrategy.onCollision(object1, object2);
-        if (object2.getTag().equals("ball") && object1.getTag().equals(BRICK_NAMETAG) &&
+        if (EntityKind.of(object2) == EntityKind.BALL &&
+                EntityKind.of(object1) == EntityKind.BRICK &&
                 !((Ball)object2).isTurboBall()) {
             Ball ball = (Ball)object2;
             brickerGameManager.turboUpdate(ball);
@@ -11,11 +11,8 @@ import danogl.util.Vector2;
  * This class represents ball in Bricker game.
  * Ball object responsible for collision with the bricks.
  */
-public class Ball extends GameObject {
-    private static final String HEART_NAME_TAG = "heart";
-    private static final String BALL_NAME_TAG = "ball";
+public class Ball extends KindedGameObject {
     private Sound collisionsound;
-    private static final float VELOCITY_FACTOR = 1.4f;
     private int collisionCounter = 0;
     private Renderable originalRenderable;
     private Vector2 originalVelocity;
@@ -32,7 +29,22 @@ public class Ball extends GameObject {
      */
     public Ball(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable
             , Sound collisionsound, BrickerGameManager brickerGameManager) {
-        super(topLeftCorner, dimensions, renderable);
+        this(topLeftCorner, dimensions, renderable, collisionsound, brickerGameManager,
+                EntityKind.BALL);
+    }
+
+    /**
+     * Constructor for a ball of a given kind, used by ball subclasses.
+     * @param topLeftCorner      Top-left corner position (0,0).
+     * @param dimensions         Size of game window.
+     * @param renderable         Display representation of the ball.
+     * @param collisionsound     Sound when the ball collides with another object.
+     * @param brickerGameManager Instance of BrickerGameManager.
+     * @param kind               Entity kind of the ball.
+     */
+    protected Ball(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable,
+                   Sound collisionsound, BrickerGameManager brickerGameManager, int kind) {
+        super(topLeftCorner, dimensions, renderable, kind);
         this.collisionsound = collisionsound;
         this.brickerGameManager = brickerGameManager;
     }
@@ -55,13 +67,28 @@ public class Ball extends GameObject {
     @Override
     public void onCollisionEnter(GameObject other, Collision collision) {
         super.onCollisionEnter(other, collision);
-        Vector2 newVelocity = getVelocity().flipped(collision.getNormal());
-        setVelocity(newVelocity);
-        collisionsound.play();
+        bounce(other, collision.getNormal());
+    }
+
+    /**
+     * Bounces the ball off another object: flips its velocity along the collision normal,
+     * plays a sound and handles turbo mode. Used both for collisions reported by the engine
+     * and for brick collisions found by the game manager's brick grid.
+     * @param other  Other game object.
+     * @param normal Collision normal.
+     */
+    public void bounce(GameObject other, Vector2 normal) {
+        brickerGameManager.getFrameStats().addCollision();
+        // reflect the velocity along the normal: v - 2(v.n)n, without allocating vectors
+        Vector2 velocity = getVelocity();
+        float projection = 2 * (velocity.x() * normal.x() + velocity.y() * normal.y());
+        transform().setVelocity(velocity.x() - projection * normal.x(),
+                velocity.y() - projection * normal.y());
+        brickerGameManager.getSoundMixer().play(collisionsound);
         // handles turbo mode in a different way
-        if (this.amITurboBall && !other.getTag().equals(HEART_NAME_TAG)) {
+        if (this.amITurboBall && EntityKind.of(other) != EntityKind.HEART) {
             increaseCollisionCounter();
-            if (collisionCounter >= 6) {
+            if (collisionCounter >= brickerGameManager.getTuning().getTurboMaxCollisions()) {
                 resetTurboBall();
             }
         }
@@ -113,6 +140,17 @@ public class Ball extends GameObject {
         return amITurboBall;
     }
 
+    /**
+     * Sets the turbo state of the ball, without changing its velocity or renderable.
+     * Used when restoring a game snapshot.
+     * @param isTurboBall      True if the ball is in turbo mode.
+     * @param collisionCounter Collisions counted since turbo mode started.
+     */
+    public void setTurboState(boolean isTurboBall, int collisionCounter) {
+        this.amITurboBall = isTurboBall;
+        this.collisionCounter = collisionCounter;
+    }
+
     /**
      * Resets the ball from turbo mode to its original state.
      */
@@ -120,7 +158,8 @@ public class Ball extends GameObject {
         this.collisionCounter = 0;
         this.amITurboBall = false;
         renderer().setRenderable(originalRenderable);
-        setVelocity(this.getVelocity().mult((1 / VELOCITY_FACTOR)));
-        this.setTag(BALL_NAME_TAG);
+        Vector2 velocity = this.getVelocity();
+        float velocityFactor = brickerGameManager.getTuning().getVelocityFactor();
+        transform().setVelocity(velocity.x() / velocityFactor, velocity.y() / velocityFactor);
     }
 }
\ No newline at end of file
@@ -12,9 +12,11 @@ import danogl.util.Vector2;
  * The brick interacts with instances of ball objects through collisions, once colliding,
  * collision strategy is being created.
  */
-public class Brick extends GameObject {
+public class Brick extends KindedGameObject {
+    private static final int NOT_IN_FIELD = -1;
     private CollisionStrategy collisionStrategy;
     BrickerGameManager brickergameManager;
+    private int fieldIndex = NOT_IN_FIELD;
 
     /**
      * Constructor for a new Brick instance.
@@ -26,11 +28,44 @@ public class Brick extends GameObject {
     public Brick(Vector2 topLeftCorner, Vector2 dimensions,
                  Renderable renderable, CollisionStrategy collisionStrategy,
                  BrickerGameManager brickergameManager) {
-        super(topLeftCorner, dimensions, renderable);
+        super(topLeftCorner, dimensions, renderable, EntityKind.BRICK);
         this.collisionStrategy =  collisionStrategy;
         this.brickergameManager = brickergameManager;
     }
 
+    /**
+     * Getter for the strategy executed when the brick is hit.
+     * @return Collision strategy of the brick.
+     */
+    public CollisionStrategy getCollisionStrategy() {
+        return collisionStrategy;
+    }
+
+    /**
+     * Sets the strategy executed when the brick is hit. Used when a game is restarted with
+     * the same bricks.
+     * @param collisionStrategy A collision strategy to execute when hit.
+     */
+    public void setCollisionStrategy(CollisionStrategy collisionStrategy) {
+        this.collisionStrategy = collisionStrategy;
+    }
+
+    /**
+     * Getter for the brick's index in the game's brick field.
+     * @return Field index, or -1 if the brick is not part of a field.
+     */
+    public int getFieldIndex() {
+        return fieldIndex;
+    }
+
+    /**
+     * Sets the brick's index in the game's brick field.
+     * @param fieldIndex Field index.
+     */
+    public void setFieldIndex(int fieldIndex) {
+        this.fieldIndex = fieldIndex;
+    }
+
     /**
      * Method is called when a collision occurs, executes the assigned collision strategy
      * @param other     Other game object.
@@ -39,7 +74,18 @@ public class Brick extends GameObject {
     @Override
     public void onCollisionEnter(GameObject other, Collision collision) {
         super.onCollisionEnter(other, collision);
+        hit(other);
+    }
+
+    /**
+     * Executes the assigned collision strategy when the brick is hit. Used both for
+     * collisions reported by the engine and for ones found by the game manager's brick grid.
+     * @param other Game object that hit the brick.
+     */
+    public void hit(GameObject other) {
         brickergameManager.decrementBrickCounter();
-                collisionStrategy.onCollision(this, other);
+        long start = System.nanoTime();
+        collisionStrategy.onCollision(this, other);
+        brickergameManager.getFrameStats().addStrategyNanos(System.nanoTime() - start);
     }
 }
\ No newline at end of file
@@ -0,0 +1,83 @@
+package bricker.gameobjects;
+
+/**
+ * This class declares which entity kinds collide with each other, and which of those pairs
+ * the game resolves itself instead of the engine. Collision passes check it before testing a
+ * pair of objects, and it counts the pair tests it lets them skip.
+ */
+public class CollisionMatrix {
+    private final boolean[] collides = new boolean[EntityKind.COUNT * EntityKind.COUNT];
+    private final boolean[] isResolvedByGame = new boolean[EntityKind.COUNT * EntityKind.COUNT];
+    private int skippedTests = 0;
+
+    /**
+     * Sets whether two kinds collide, in both directions. Kinds collide with no kind until set.
+     * @param kind1         An entity kind.
+     * @param kind2         Another entity kind, or the same one.
+     * @param shouldCollide True if objects of the two kinds collide.
+     */
+    public void setCollides(int kind1, int kind2, boolean shouldCollide) {
+        collides[kind1 * EntityKind.COUNT + kind2] = shouldCollide;
+        collides[kind2 * EntityKind.COUNT + kind1] = shouldCollide;
+    }
+
+    /**
+     * Sets whether the game resolves the collisions of two kinds itself, in both directions.
+     * The engine does not test such pairs, so they are not handled twice.
+     * @param kind1            An entity kind.
+     * @param kind2            Another entity kind, or the same one.
+     * @param isResolvedByGame True if the game's own collision passes handle the pair.
+     */
+    public void setResolvedByGame(int kind1, int kind2, boolean isResolvedByGame) {
+        this.isResolvedByGame[kind1 * EntityKind.COUNT + kind2] = isResolvedByGame;
+        this.isResolvedByGame[kind2 * EntityKind.COUNT + kind1] = isResolvedByGame;
+    }
+
+    /**
+     * Checks if the engine should test two kinds, counting a skipped test if they don't
+     * collide. Pairs resolved by the game are not tested by the engine, but are not counted
+     * as skipped, since the game tests them.
+     * @param kind1 Kind of the first object.
+     * @param kind2 Kind of the second object.
+     * @return True if the engine should test the pair.
+     */
+    public boolean shouldEngineCollide(int kind1, int kind2) {
+        return shouldCollide(kind1, kind2) && !isResolvedByGame[kind1 * EntityKind.COUNT + kind2];
+    }
+
+    /**
+     * Checks if two kinds collide, counting a skipped test if they don't.
+     * @param kind1 Kind of the first object.
+     * @param kind2 Kind of the second object.
+     * @return True if the pair should be tested.
+     */
+    public boolean shouldCollide(int kind1, int kind2) {
+        return shouldCollide(kind1, kind2, 1);
+    }
+
+    /**
+     * Checks if two kinds collide, for a batch of pairs with the same kinds, counting the
+     * batch as skipped tests if they don't.
+     * @param kind1      Kind of the first objects.
+     * @param kind2      Kind of the second objects.
+     * @param pairsCount Number of pairs in the batch.
+     * @return True if the pairs should be tested.
+     */
+    public boolean shouldCollide(int kind1, int kind2, int pairsCount) {
+        if (collides[kind1 * EntityKind.COUNT + kind2]) {
+            return true;
+        }
+        skippedTests += pairsCount;
+        return false;
+    }
+
+    /**
+     * Returns the pair tests skipped since the last call and starts counting again.
+     * @return Skipped pair tests count.
+     */
+    public int takeSkippedTests() {
+        int skipped = skippedTests;
+        skippedTests = 0;
+        return skipped;
+    }
+}
@@ -0,0 +1,47 @@
+package bricker.gameobjects;
+
+import danogl.GameObject;
+
+/**
+ * This class defines the kinds of game objects in a Bricker game. Collision handling
+ * dispatches on these ids instead of comparing name tags, so checks are integer compares and
+ * a misspelled kind does not compile.
+ */
+public final class EntityKind {
+    /** Objects with no gameplay role, like the background. */
+    public static final int NONE = 0;
+    /** The main ball. */
+    public static final int BALL = 1;
+    /** A puck ball. */
+    public static final int PUCK_BALL = 2;
+    /** A brick. */
+    public static final int BRICK = 3;
+    /** The paddle the player starts with. */
+    public static final int USER_PADDLE = 4;
+    /** The extra paddle. */
+    public static final int EXTRA_PADDLE = 5;
+    /** A falling heart. */
+    public static final int HEART = 6;
+    /** A wall or the ceiling. */
+    public static final int WALL = 7;
+    /** Number of kinds; kinds are in [0, COUNT). */
+    public static final int COUNT = 8;
+
+    /**
+     * Not instantiable.
+     */
+    private EntityKind() {
+    }
+
+    /**
+     * Finds the kind of a game object.
+     * @param gameObject The game object.
+     * @return The object's kind, or NONE if it has none.
+     */
+    public static int of(GameObject gameObject) {
+        if (gameObject instanceof KindedGameObject) {
+            return ((KindedGameObject) gameObject).getKind();
+        }
+        return NONE;
+    }
+}
@@ -6,17 +6,19 @@ import danogl.collisions.Collision;
 import danogl.gui.rendering.Renderable;
 import danogl.util.Vector2;
 
-import java.util.Objects;
-
 /**
  * This class implements a heart object that represents life.
  * Heart object is collectible object when collided with paddle, and
- * grants the player an extra life.
+ * grants the player an extra life. The objects it is tested against are declared by the
+ * game's collision matrix.
  */
-public class Heart extends GameObject {
+public class Heart extends KindedGameObject {
+    /** Pool index of a heart that is not live in a heart pool. */
+    public static final int NOT_IN_POOL = -1;
     private BrickerGameManager brickerGameManager;
     private LivesManager livesManager;
-    private String tag;
+    private final int collectorKind;
+    private int poolIndex = NOT_IN_POOL;
 
     /**
      * Constructor for a new Heart instance.
@@ -24,17 +26,34 @@ public class Heart extends GameObject {
      * @param dimensions         Size of game window.
      * @param renderable         Display representation of the ball.
      * @param brickerGameManager Instance of BrickerGameManager.
-     * @param tag                Name tag of the paddle that the heart interacts.
+     * @param collectorKind      Entity kind of the paddle that collects the heart.
      * @param livesManager       Manages player's lives.
      */
     public Heart(Vector2 topLeftCorner, Vector2 dimensions,
                  Renderable renderable, BrickerGameManager brickerGameManager,
-                 String tag, LivesManager livesManager) {
-        super(topLeftCorner, dimensions, renderable);
+                 int collectorKind, LivesManager livesManager) {
+        super(topLeftCorner, dimensions, renderable, EntityKind.HEART);
         this.brickerGameManager = brickerGameManager;
         this.livesManager = livesManager;
-        this.tag = tag;
+        this.collectorKind = collectorKind;
+    }
+
+    /**
+     * Getter for the heart's index among the live hearts of its pool.
+     * @return Pool index, or -1 if the heart is not live.
+     */
+    public int getPoolIndex() {
+        return poolIndex;
     }
+
+    /**
+     * Sets the heart's index among the live hearts of its pool.
+     * @param poolIndex Pool index.
+     */
+    public void setPoolIndex(int poolIndex) {
+        this.poolIndex = poolIndex;
+    }
+
     /**
      * Method is called when a collision occurs, if the heart collides with the
      * user paddle, it grants the player an extra life
@@ -44,27 +63,17 @@ public class Heart extends GameObject {
     @Override
     public void onCollisionEnter(GameObject other, Collision collision) {
         super.onCollisionEnter(other, collision);
-        if (Objects.equals(other.getTag(), this.tag)) {
+        if (EntityKind.of(other) == this.collectorKind) {
             this.livesManager.gainLife();
             this.livesManager.updateMaxLife();
             this.brickerGameManager.removeHeart(this);
         }
     }
 
-    /**
-     * Determines whether the heart should collide with a user game object
-     * according to its name tag.
-     * @param other Other game object.
-     * @return True if the object has the same tag as the user paddle, false otherwise.
-     */
-    @Override
-    public boolean shouldCollideWith(GameObject other) {
-        return Objects.equals(other.getTag(), this.tag);
-    }
-
     /**
      * Game update logic Called once per frame, Overriding the GameManager update() method.
-     * it removes the heart from the game if it's going out of windows bounds.
+     * it removes the heart from the game if it's going out of windows bounds, which returns it
+     * to the game's heart pool.
      * @param deltaTime The time, in seconds, that passed since the last invocation
      *                  of this method (i.e., since the last frame).
      */
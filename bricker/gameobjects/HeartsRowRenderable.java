@@ -0,0 +1,73 @@
+package bricker.gameobjects;
+
+import danogl.gui.rendering.Renderable;
+import danogl.util.Vector2;
+
+import java.awt.*;
+
+/**
+ * This class renders a row of hearts as one renderable, so the whole lives row is drawn by a
+ * single game object instead of one game object per heart. Heart positions are computed once
+ * per row position, so drawing allocates nothing.
+ */
+public class HeartsRowRenderable implements Renderable {
+    private final Renderable heartImage;
+    private final Vector2 heartDimensions;
+    private final float spacing;
+    private int heartsCount;
+    private Vector2 rowTopLeftCorner = null;
+    private Vector2[] heartPositions = new Vector2[0];
+
+    /**
+     * Constructor for HeartsRowRenderable.
+     * @param heartImage      Display representation of a single heart.
+     * @param heartDimensions Size of a single heart.
+     * @param spacing         Horizontal gap between neighbouring hearts.
+     * @param heartsCount     Number of hearts to draw.
+     */
+    public HeartsRowRenderable(Renderable heartImage, Vector2 heartDimensions, float spacing,
+                               int heartsCount) {
+        this.heartImage = heartImage;
+        this.heartDimensions = heartDimensions;
+        this.spacing = spacing;
+        this.heartsCount = heartsCount;
+    }
+
+    /**
+     * Sets the number of hearts to draw.
+     * @param heartsCount Number of hearts.
+     */
+    public void setHeartsCount(int heartsCount) {
+        this.heartsCount = heartsCount;
+    }
+
+    /**
+     * Draws the hearts from left to right, starting at the top-left corner of the row.
+     * @param g                        Graphics to draw on.
+     * @param topLeftCorner            Top-left corner of the row.
+     * @param dimensions               Size of the row (ignored, hearts keep their size).
+     * @param degreesCounterClockwise  Rotation passed to each heart.
+     * @param isFlippedHorizontally    Horizontal flip passed to each heart.
+     * @param isFlippedVertically      Vertical flip passed to each heart.
+     * @param opaqueness               Opaqueness passed to each heart.
+     */
+    @Override
+    public void render(Graphics2D g, Vector2 topLeftCorner, Vector2 dimensions,
+                       double degreesCounterClockwise, boolean isFlippedHorizontally,
+                       boolean isFlippedVertically, double opaqueness) {
+        if (heartPositions.length < heartsCount || rowTopLeftCorner == null ||
+                rowTopLeftCorner.x() != topLeftCorner.x() ||
+                rowTopLeftCorner.y() != topLeftCorner.y()) {
+            rowTopLeftCorner = topLeftCorner;
+            heartPositions = new Vector2[Math.max(heartsCount, heartPositions.length)];
+            for (int i = 0; i < heartPositions.length; i++) {
+                heartPositions[i] = new Vector2(
+                        topLeftCorner.x() + i * (heartDimensions.x() + spacing), topLeftCorner.y());
+            }
+        }
+        for (int i = 0; i < heartsCount; i++) {
+            heartImage.render(g, heartPositions[i], heartDimensions, degreesCounterClockwise,
+                    isFlippedHorizontally, isFlippedVertically, opaqueness);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package bricker.gameobjects;
+
+import danogl.GameObject;
+import danogl.gui.rendering.Renderable;
+import danogl.util.Vector2;
+
+/**
+ * This class is a game object with an entity kind, one of the EntityKind ids, fixed when it
+ * is created. If it is given a collision matrix, the engine only tests it against objects of
+ * the kinds the matrix lets it collide with.
+ */
+public class KindedGameObject extends GameObject {
+    private final int kind;
+    private CollisionMatrix collisionMatrix;
+
+    /**
+     * Constructor for KindedGameObject.
+     * @param topLeftCorner Top-left corner position.
+     * @param dimensions    Size of the object.
+     * @param renderable    Display representation of the object.
+     * @param kind          Entity kind of the object.
+     */
+    public KindedGameObject(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable,
+                            int kind) {
+        super(topLeftCorner, dimensions, renderable);
+        this.kind = kind;
+    }
+
+    /**
+     * Getter for the object's entity kind.
+     * @return One of the EntityKind ids.
+     */
+    public int getKind() {
+        return kind;
+    }
+
+    /**
+     * Sets the collision matrix that filters the object's collisions.
+     * @param collisionMatrix The game's collision matrix, or null to collide with everything.
+     */
+    public void setCollisionMatrix(CollisionMatrix collisionMatrix) {
+        this.collisionMatrix = collisionMatrix;
+    }
+
+    /**
+     * Determines whether the engine should test the object against another one, according to
+     * the collision matrix.
+     * @param other Other game object.
+     * @return True if the matrix lets their kinds collide and the game does not resolve the
+     *         pair itself, or if there is no matrix.
+     */
+    @Override
+    public boolean shouldCollideWith(GameObject other) {
+        if (collisionMatrix == null) {
+            return super.shouldCollideWith(other);
+        }
+        return collisionMatrix.shouldEngineCollide(kind, EntityKind.of(other));
+    }
+}
@@ -0,0 +1,14 @@
+package bricker.gameobjects;
+
+/**
+ * This interface defines a listener to changes of the player's lives.
+ * Classes implementing it are notified by LivesManager only when the lives actually change.
+ */
+public interface LivesListener {
+    /**
+     * Called after the player's current or maximum lives changed.
+     * @param curLives Current number of lives.
+     * @param maxLives Maximum number of lives.
+     */
+    void onLivesChanged(int curLives, int maxLives);
+}
@@ -1,15 +1,19 @@
 package bricker.gameobjects;
 
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * This class manages the player's lives in the game, including tracking current and maximum lives,
  * and providing methods to increment, decrement, and check game-over status.
+ * Listeners are notified whenever the lives change.
  */
 public class LivesManager{
     private final static int MAX_LIVES = 4;
     private int defaultLives = 3;
     private int curLives;
     private int maxLives;
+    private final List<LivesListener> listeners = new ArrayList<>();
 
     /**
      * Constructor for LivesManager.
@@ -20,6 +24,14 @@ public class LivesManager{
         this.maxLives = maxLives;
         this.curLives = initialLives;
     }
+    /**
+     * Adds a listener to be notified when the lives change.
+     * @param listener Listener to add.
+     */
+    public void addListener(LivesListener listener) {
+        listeners.add(listener);
+    }
+
     /**
      * Getter for current number of lives the player has.
      * @return Current lives number.
@@ -50,6 +62,7 @@ public class LivesManager{
     public void loseLife() {
         if (this.curLives > 0) {
             this.curLives --;
+            notifyListeners();
         }
     }
 
@@ -59,8 +72,21 @@ public class LivesManager{
     public void gainLife() {
         if(this.curLives < this.maxLives) {
             this.curLives ++;
+            notifyListeners();
         }
     }
+
+    /**
+     * Sets the current and maximum lives and notifies the listeners. Used when restoring a
+     * game snapshot.
+     * @param curLives Current number of lives.
+     * @param maxLives Maximum number of lives.
+     */
+    public void setLives(int curLives, int maxLives) {
+        this.curLives = curLives;
+        this.maxLives = maxLives;
+        notifyListeners();
+    }
     /**
      * Checks whether the game is over, based on the player's lives.
      * @return True if player's current lives are 0 (or less), otherwise false.
@@ -79,6 +105,16 @@ public class LivesManager{
         }
         else{
             this.maxLives++;
+            notifyListeners();
+        }
+    }
+
+    /**
+     * Notifies all listeners of the current lives.
+     */
+    private void notifyListeners() {
+        for (LivesListener listener : listeners) {
+            listener.onLivesChanged(curLives, maxLives);
         }
     }
 }
\ No newline at end of file
@@ -8,9 +8,9 @@ import java.awt.*;
 
 /**
  * This class represents a numerical display of lives as numbers, text color changes
- * based on the number of lives left.
+ * based on the number of lives left. The text is only updated when the lives change.
  */
-public class NumericLives extends GameObject {
+public class NumericLives extends GameObject implements LivesListener {
     private static final String LIVES = "Lives: ";
     private TextRenderable textRenderable;
     private final LivesManager livesManager;
@@ -28,17 +28,16 @@ public class NumericLives extends GameObject {
         this.textRenderable = textRenderable;
         this.livesManager = livesManager;
         updateTextAndColor();
+        livesManager.addListener(this);
     }
 
     /**
-     * Game update logic Called once per frame, Overriding the GameManager update() method.
-     * it dynamically updates displayed text and its color to reflect the current number of lives.
-     * @param deltaTime The time, in seconds, that passed since the last invocation
-     *                  of this method (i.e., since the last frame).
+     * Updates the displayed text and its color to reflect the new number of lives.
+     * @param curLives Current number of lives.
+     * @param maxLives Maximum number of lives.
      */
     @Override
-    public void update(float deltaTime) {
-        super.update(deltaTime);
+    public void onLivesChanged(int curLives, int maxLives) {
         updateTextAndColor();
     }
 
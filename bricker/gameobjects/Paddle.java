@@ -10,15 +10,14 @@ import danogl.util.Vector2;
  * This class represents a user paddle object in the game, controlled by player,
  * with horizontal movement.
  */
-public class Paddle extends GameObject {
+public class Paddle extends KindedGameObject {
     private static final float MOVEMENT_SPEED = 300.0F;
     private static final int MAGIC_37 = 37;
     private static final int MAGIC_39 = 39;
-    private static final String EXTRA_PUDDLE = "extraPaddle";
     private final UserInputListener inputListener;
     private final Renderable renderable;
     private final float windowWidth;
-    private boolean amIExtraPaddle;
+    private final boolean amIExtraPaddle;
     private int ExtraHitcount = 0;
 
     /**
@@ -29,10 +28,13 @@ public class Paddle extends GameObject {
      * @param renderable    Display representation of the paddle.
      * @param inputListener Instance of SoundReader to get user's input.
      * @param windowWidth   Width of the game window.
+     * @param kind          Entity kind of the paddle, EntityKind.USER_PADDLE or
+     *                      EntityKind.EXTRA_PADDLE.
      */
     public Paddle(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable,
-                  UserInputListener inputListener, float windowWidth) {
-        super(topLeftCorner, dimensions, renderable);
+                  UserInputListener inputListener, float windowWidth, int kind) {
+        super(topLeftCorner, dimensions, renderable, kind);
+        this.amIExtraPaddle = kind == EntityKind.EXTRA_PADDLE;
         this.renderable = renderable;
         this.inputListener = inputListener;
         this.windowWidth = windowWidth;
@@ -42,6 +44,14 @@ public class Paddle extends GameObject {
         return ExtraHitcount;
     }
 
+    /**
+     * Sets the number of hits counted by an extra paddle. Used when restoring a game snapshot.
+     * @param extraHitcount Number of hits.
+     */
+    public void setExtraHitcount(int extraHitcount) {
+        this.ExtraHitcount = extraHitcount;
+    }
+
     /**
      * Game update logic Called once per frame, Overriding the GameManager update() method.
      * updates the paddle position in horizontal movement based on user input and
@@ -51,26 +61,24 @@ public class Paddle extends GameObject {
      */
     public void update(float deltaTime) {
         super.update(deltaTime);
-        Vector2 movementDir = Vector2.ZERO;
-        // check if this paddle is an extra paddle
-        if (this.getTag().equals(EXTRA_PUDDLE)){
-            amIExtraPaddle = true;
-        }
+        float movementDir = 0;
         // handle left arrow key input
         if (this.inputListener.isKeyPressed(MAGIC_37)) {
-            movementDir = movementDir.add(Vector2.LEFT);
+            movementDir += Vector2.LEFT.x();
         }
         // handle right arrow key input
         if (this.inputListener.isKeyPressed(MAGIC_39)) {
-            movementDir = movementDir.add(Vector2.RIGHT);
+            movementDir += Vector2.RIGHT.x();
         }
-        // set paddle velocity based on movement direction
-        this.setVelocity(movementDir.mult(MOVEMENT_SPEED));
+        // set paddle velocity based on movement direction, using floats so that per-frame
+        // movement allocates no vectors
+        float velocityX = movementDir * MOVEMENT_SPEED;
         // calculate  next position and check if it exceeds the window bounds
-        Vector2 nextPosition = this.getTopLeftCorner().add(this.getVelocity().mult(deltaTime));
-        if (nextPosition.x() <= 0.0F || nextPosition.x() + this.getDimensions().x() >= this.windowWidth) {
-            this.setVelocity(new Vector2(-this.getVelocity().x(), this.getVelocity().y()));
+        float nextX = this.getTopLeftCorner().x() + velocityX * deltaTime;
+        if (nextX <= 0.0F || nextX + this.getDimensions().x() >= this.windowWidth) {
+            velocityX = -velocityX;
         }
+        transform().setVelocity(velocityX, 0);
     }
 
     /**
@@ -83,7 +91,14 @@ public class Paddle extends GameObject {
     @Override
     public void onCollisionEnter(GameObject other, Collision collision) {
         super.onCollisionEnter(other, collision);
+        countHit();
+    }
 
+    /**
+     * Counts a hit on the paddle, if it's an extra paddle. Used both for collisions reported
+     * by the engine and for ones found by the game manager's swept collision test.
+     */
+    public void countHit() {
         if (amIExtraPaddle) {
             ExtraHitcount++;
         }
@@ -19,13 +19,14 @@ public class PuckBall extends Ball {
      */
     public PuckBall(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable
             , Sound collisionsound, BrickerGameManager brickerGameManager) {
-        super(topLeftCorner, dimensions, renderable, collisionsound,brickerGameManager);
+        super(topLeftCorner, dimensions, renderable, collisionsound, brickerGameManager,
+                EntityKind.PUCK_BALL);
         this.brickerGameManager = brickerGameManager;
     }
 
     /**
      * Game update logic Called once per frame, Overriding the GameManager update() method.
-     * checks id the puck ball out of windows bounds.
+     * removes the puck ball from the game once it's out of windows bounds.
      * @param deltaTime The time, in seconds, that passed since the last invocation
      *                  of this method (i.e., since the last frame).
      */
@@ -33,7 +34,7 @@ public class PuckBall extends Ball {
     public void update(float deltaTime) {
         super.update(deltaTime);
         if (brickerGameManager.isBallOutOfWindow(this)) {
-            //game manager handles further logic
+            brickerGameManager.removePuckBall(this);
         }
     }
 }
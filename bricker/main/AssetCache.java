@@ -0,0 +1,86 @@
+package bricker.main;
+
+import danogl.gui.ImageReader;
+import danogl.gui.Sound;
+import danogl.gui.SoundReader;
+import danogl.gui.rendering.ImageRenderable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This class caches images and sounds read from disk, so each asset is decoded only once.
+ * Images are keyed by path and transparency flag, sounds by path. The cache outlives game
+ * resets: the readers are rebound on every initialization, but loaded assets are kept.
+ */
+public class AssetCache {
+    private static final String KEY_SEPARATOR = "|";
+    private final Map<String, ImageRenderable> images = new HashMap<>();
+    private final Map<String, Sound> sounds = new HashMap<>();
+    private ImageReader imageReader;
+    private SoundReader soundReader;
+    private int hits = 0;
+    private int misses = 0;
+
+    /**
+     * Sets the readers used to load assets that are not cached yet.
+     * @param imageReader Instance of ImageReader, reads an image from disk.
+     * @param soundReader Instance of SoundReader, reads a wav file.
+     */
+    public void setReaders(ImageReader imageReader, SoundReader soundReader) {
+        this.imageReader = imageReader;
+        this.soundReader = soundReader;
+    }
+
+    /**
+     * Returns the image at the given path, reading it only on the first request.
+     * @param path                      Path of the image file.
+     * @param isTopLeftPixelTransparent Whether the top left pixel's color is transparent.
+     * @return The image.
+     */
+    public ImageRenderable readImage(String path, boolean isTopLeftPixelTransparent) {
+        String key = path + KEY_SEPARATOR + isTopLeftPixelTransparent;
+        ImageRenderable image = images.get(key);
+        if (image == null) {
+            misses++;
+            image = imageReader.readImage(path, isTopLeftPixelTransparent);
+            images.put(key, image);
+        } else {
+            hits++;
+        }
+        return image;
+    }
+
+    /**
+     * Returns the sound at the given path, reading it only on the first request.
+     * @param path Path of the wav file.
+     * @return The sound.
+     */
+    public Sound readSound(String path) {
+        // containsKey, since headless readers return null sounds
+        if (sounds.containsKey(path)) {
+            hits++;
+            return sounds.get(path);
+        }
+        misses++;
+        Sound sound = soundReader.readSound(path);
+        sounds.put(path, sound);
+        return sound;
+    }
+
+    /**
+     * Getter for number of requests answered from the cache.
+     * @return Cache hits.
+     */
+    public int getHits() {
+        return hits;
+    }
+
+    /**
+     * Getter for number of requests that had to read from disk.
+     * @return Cache misses.
+     */
+    public int getMisses() {
+        return misses;
+    }
+}
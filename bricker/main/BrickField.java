@@ -0,0 +1,179 @@
+package bricker.main;
+
+/**
+ * This class stores the bricks of a board in primitive arrays: position, size, strategy id and
+ * an alive bit per brick. It is cheap enough to hold boards of millions of bricks; Brick game
+ * objects are only created for the bricks that can actually be seen or hit.
+ */
+public class BrickField {
+    private static final int BITS_PER_WORD = 64;
+    private static final int WORD_SHIFT = 6;
+    private final float[] xs;
+    private final float[] ys;
+    private final float[] widths;
+    private final float[] heights;
+    private final byte[] strategyIds;
+    private final long[] alive;
+    private int size = 0;
+    private int aliveCount = 0;
+
+    /**
+     * Constructor for BrickField.
+     * @param capacity Maximum number of bricks the field holds.
+     */
+    public BrickField(int capacity) {
+        this.xs = new float[capacity];
+        this.ys = new float[capacity];
+        this.widths = new float[capacity];
+        this.heights = new float[capacity];
+        this.strategyIds = new byte[capacity];
+        this.alive = new long[(capacity + BITS_PER_WORD - 1) / BITS_PER_WORD];
+    }
+
+    /**
+     * Adds an alive brick to the field.
+     * @param x          X of the brick's top-left corner.
+     * @param y          Y of the brick's top-left corner.
+     * @param width      Width of the brick.
+     * @param height     Height of the brick.
+     * @param strategyId Id of the brick's collision strategy.
+     * @return Index of the new brick.
+     */
+    public int add(float x, float y, float width, float height, int strategyId) {
+        int index = size++;
+        xs[index] = x;
+        ys[index] = y;
+        widths[index] = width;
+        heights[index] = height;
+        strategyIds[index] = (byte) strategyId;
+        alive[index >> WORD_SHIFT] |= 1L << index;
+        aliveCount++;
+        return index;
+    }
+
+    /**
+     * Replaces a brick of the field, alive or destroyed, with a new alive brick. Used to
+     * recycle the indices of destroyed bricks.
+     * @param index      Index of the brick to replace.
+     * @param x          X of the brick's top-left corner.
+     * @param y          Y of the brick's top-left corner.
+     * @param width      Width of the brick.
+     * @param height     Height of the brick.
+     * @param strategyId Id of the brick's collision strategy.
+     */
+    public void set(int index, float x, float y, float width, float height, int strategyId) {
+        xs[index] = x;
+        ys[index] = y;
+        widths[index] = width;
+        heights[index] = height;
+        strategyIds[index] = (byte) strategyId;
+        if (!isAlive(index)) {
+            alive[index >> WORD_SHIFT] |= 1L << index;
+            aliveCount++;
+        }
+    }
+
+    /**
+     * Moves a brick vertically.
+     * @param index Index of the brick.
+     * @param y     New y of the brick's top-left corner.
+     */
+    public void setY(int index, float y) {
+        ys[index] = y;
+    }
+
+    /**
+     * Marks a brick as destroyed. Does nothing if it's already destroyed.
+     * @param index Index of the brick.
+     */
+    public void kill(int index) {
+        if (isAlive(index)) {
+            alive[index >> WORD_SHIFT] &= ~(1L << index);
+            aliveCount--;
+        }
+    }
+
+    /**
+     * Checks if a brick was not destroyed yet.
+     * @param index Index of the brick.
+     * @return True if the brick is alive.
+     */
+    public boolean isAlive(int index) {
+        return (alive[index >> WORD_SHIFT] & (1L << index)) != 0;
+    }
+
+    /**
+     * Checks if a brick's bounding box overlaps the given rectangle.
+     * @param index  Index of the brick.
+     * @param minX   Left edge of the rectangle.
+     * @param minY   Top edge of the rectangle.
+     * @param maxX   Right edge of the rectangle.
+     * @param maxY   Bottom edge of the rectangle.
+     * @return True if they overlap.
+     */
+    public boolean overlaps(int index, float minX, float minY, float maxX, float maxY) {
+        return xs[index] < maxX && xs[index] + widths[index] > minX &&
+                ys[index] < maxY && ys[index] + heights[index] > minY;
+    }
+
+    /**
+     * Getter for a brick's left edge.
+     * @param index Index of the brick.
+     * @return X of the top-left corner.
+     */
+    public float getX(int index) {
+        return xs[index];
+    }
+
+    /**
+     * Getter for a brick's top edge.
+     * @param index Index of the brick.
+     * @return Y of the top-left corner.
+     */
+    public float getY(int index) {
+        return ys[index];
+    }
+
+    /**
+     * Getter for a brick's width.
+     * @param index Index of the brick.
+     * @return Width.
+     */
+    public float getWidth(int index) {
+        return widths[index];
+    }
+
+    /**
+     * Getter for a brick's height.
+     * @param index Index of the brick.
+     * @return Height.
+     */
+    public float getHeight(int index) {
+        return heights[index];
+    }
+
+    /**
+     * Getter for a brick's strategy id.
+     * @param index Index of the brick.
+     * @return Strategy id.
+     */
+    public int getStrategyId(int index) {
+        return strategyIds[index];
+    }
+
+    /**
+     * Getter for number of bricks in the field, alive or not.
+     * @return Number of bricks.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Getter for number of alive bricks.
+     * @return Number of alive bricks.
+     */
+    public int getAliveCount() {
+        return aliveCount;
+    }
+}
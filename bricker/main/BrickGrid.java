@@ -0,0 +1,204 @@
+package bricker.main;
+
+import bricker.gameobjects.Brick;
+import danogl.GameObject;
+import danogl.util.Vector2;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class is a spatial index of the bricks, built on the regular grid createBricks lays them
+ * out on. A ball is only tested against the bricks in the cells its bounding box overlaps, so
+ * the cost of a query does not depend on the number of bricks. Bricks that are not on the grid
+ * are kept in a general list that is tested linearly.
+ */
+public class BrickGrid {
+    private final float originX;
+    private final float originY;
+    private final float cellWidth;
+    private final float cellHeight;
+    private final int columns;
+    private final int rows;
+    private final Brick[] cells;
+    private final List<Brick> generalBricks = new ArrayList<>();
+    private final List<Brick> overlapping = new ArrayList<>();
+
+    /**
+     * Constructor for BrickGrid.
+     * @param originX    X of the top-left corner of the first cell.
+     * @param originY    Y of the top-left corner of the first cell.
+     * @param cellWidth  Horizontal distance between neighbouring bricks' corners.
+     * @param cellHeight Vertical distance between neighbouring bricks' corners.
+     * @param columns    Number of columns.
+     * @param rows       Number of rows.
+     */
+    public BrickGrid(float originX, float originY, float cellWidth, float cellHeight,
+                     int columns, int rows) {
+        this.originX = originX;
+        this.originY = originY;
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+        this.columns = columns;
+        this.rows = rows;
+        this.cells = new Brick[columns * rows];
+    }
+
+    /**
+     * Adds a brick to the index. A brick that fits inside the cell holding its center is stored
+     * in that cell, any other brick is kept in the general list.
+     * @param brick Brick to add.
+     */
+    public void add(Brick brick) {
+        Vector2 center = brick.getCenter();
+        int column = columnOf(center.x());
+        int row = rowOf(center.y());
+        if (isInGrid(row, column) && cells[row * columns + column] == null &&
+                fitsCell(brick, row, column)) {
+            cells[row * columns + column] = brick;
+        } else {
+            generalBricks.add(brick);
+        }
+    }
+
+    /**
+     * Removes a brick from the index. Does nothing if the brick is not indexed.
+     * @param brick Brick to remove.
+     */
+    public void remove(Brick brick) {
+        Vector2 center = brick.getCenter();
+        int column = columnOf(center.x());
+        int row = rowOf(center.y());
+        if (isInGrid(row, column) && cells[row * columns + column] == brick) {
+            cells[row * columns + column] = null;
+        } else {
+            generalBricks.remove(brick);
+        }
+    }
+
+    /**
+     * Adds every indexed brick to a list.
+     * @param bricks List to add the bricks to.
+     */
+    public void collectBricks(List<Brick> bricks) {
+        for (Brick brick : cells) {
+            if (brick != null) {
+                bricks.add(brick);
+            }
+        }
+        bricks.addAll(generalBricks);
+    }
+
+    /**
+     * Removes every brick from the index.
+     */
+    public void clear() {
+        Arrays.fill(cells, null);
+        generalBricks.clear();
+    }
+
+    /**
+     * Finds the bricks whose bounding box overlaps the given object's.
+     * The returned list is reused by the next query.
+     * @param object Object to test, usually a ball.
+     * @return Overlapping bricks.
+     */
+    public List<Brick> findOverlapping(GameObject object) {
+        Vector2 topLeft = object.getTopLeftCorner();
+        Vector2 dimensions = object.getDimensions();
+        return findOverlapping(topLeft.x(), topLeft.y(), topLeft.x() + dimensions.x(),
+                topLeft.y() + dimensions.y());
+    }
+
+    /**
+     * Finds the bricks whose bounding box overlaps the given box.
+     * The returned list is reused by the next query.
+     * @param minX Left edge of the box.
+     * @param minY Top edge of the box.
+     * @param maxX Right edge of the box.
+     * @param maxY Bottom edge of the box.
+     * @return Overlapping bricks.
+     */
+    public List<Brick> findOverlapping(float minX, float minY, float maxX, float maxY) {
+        overlapping.clear();
+        int firstColumn = Math.max(columnOf(minX), 0);
+        int lastColumn = Math.min(columnOf(maxX), columns - 1);
+        int firstRow = Math.max(rowOf(minY), 0);
+        int lastRow = Math.min(rowOf(maxY), rows - 1);
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                Brick brick = cells[row * columns + column];
+                if (brick != null && overlaps(brick, minX, minY, maxX, maxY)) {
+                    overlapping.add(brick);
+                }
+            }
+        }
+        for (Brick brick : generalBricks) {
+            if (overlaps(brick, minX, minY, maxX, maxY)) {
+                overlapping.add(brick);
+            }
+        }
+        return overlapping;
+    }
+
+    /**
+     * Checks if a brick's bounding box overlaps the given box.
+     * @param brick Brick to test.
+     * @param minX  Left edge of the box.
+     * @param minY  Top edge of the box.
+     * @param maxX  Right edge of the box.
+     * @param maxY  Bottom edge of the box.
+     * @return True if they overlap.
+     */
+    private static boolean overlaps(Brick brick, float minX, float minY, float maxX, float maxY) {
+        Vector2 topLeft = brick.getTopLeftCorner();
+        Vector2 dimensions = brick.getDimensions();
+        return topLeft.x() < maxX && topLeft.x() + dimensions.x() > minX &&
+                topLeft.y() < maxY && topLeft.y() + dimensions.y() > minY;
+    }
+
+    /**
+     * Checks if a brick's bounding box lies inside a cell.
+     * @param brick  Brick to test.
+     * @param row    Row of the cell.
+     * @param column Column of the cell.
+     * @return True if the brick fits the cell.
+     */
+    private boolean fitsCell(Brick brick, int row, int column) {
+        Vector2 topLeft = brick.getTopLeftCorner();
+        Vector2 dimensions = brick.getDimensions();
+        float cellX = originX + column * cellWidth;
+        float cellY = originY + row * cellHeight;
+        return topLeft.x() >= cellX && topLeft.x() + dimensions.x() <= cellX + cellWidth &&
+                topLeft.y() >= cellY && topLeft.y() + dimensions.y() <= cellY + cellHeight;
+    }
+
+    /**
+     * Calculates the column containing an x coordinate.
+     * @param x X coordinate.
+     * @return Column index, possibly outside the grid.
+     */
+    private int columnOf(float x) {
+        return (int) Math.floor((x - originX) / cellWidth);
+    }
+
+    /**
+     * Calculates the row containing a y coordinate.
+     * @param y Y coordinate.
+     * @return Row index, possibly outside the grid.
+     */
+    private int rowOf(float y) {
+        return (int) Math.floor((y - originY) / cellHeight);
+    }
+
+    /**
+     * Checks if a cell is inside the grid.
+     * @param row    Row index.
+     * @param column Column index.
+     * @return True if the cell exists.
+     */
+    private boolean isInGrid(int row, int column) {
+        return row >= 0 && row < rows && column >= 0 && column < columns;
+    }
+}
@@ -0,0 +1,100 @@
+package bricker.main;
+
+import bricker.gameobjects.Brick;
+import danogl.gui.rendering.Renderable;
+import danogl.util.Vector2;
+
+import java.awt.AlphaComposite;
+import java.awt.Composite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+/**
+ * This class renders all the bricks as one renderable, from an offscreen image the bricks are
+ * drawn into once. When a brick is destroyed only its cell of the image is cleared and the
+ * neighbours sharing it are drawn again, so a frame costs one image draw however many bricks
+ * are alive, plus work for the bricks destroyed in it.
+ */
+public class BrickLayerRenderable implements Renderable {
+    private final BufferedImage image;
+    private final Graphics2D canvas;
+    private final Composite drawComposite;
+
+    /**
+     * Constructor for BrickLayerRenderable.
+     * @param width  Width of the layer, in pixels.
+     * @param height Height of the layer, in pixels.
+     */
+    public BrickLayerRenderable(int width, int height) {
+        this.image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        this.canvas = image.createGraphics();
+        this.drawComposite = canvas.getComposite();
+    }
+
+    /**
+     * Draws a brick into the layer.
+     * @param brick Brick to draw.
+     */
+    public void drawBrick(Brick brick) {
+        brick.renderer().getRenderable().render(canvas, brick.getTopLeftCorner(),
+                brick.getDimensions(), 0, false, false, 1);
+    }
+
+    /**
+     * Erases a destroyed brick from the layer. Bricks that share pixels with it are drawn
+     * again inside the erased area.
+     * @param brick     Brick to erase, already removed from the brick grid.
+     * @param brickGrid Spatial index of the bricks left.
+     */
+    public void eraseBrick(Brick brick, BrickGrid brickGrid) {
+        Vector2 topLeft = brick.getTopLeftCorner();
+        Vector2 dimensions = brick.getDimensions();
+        int minX = (int) Math.floor(topLeft.x());
+        int minY = (int) Math.floor(topLeft.y());
+        int maxX = (int) Math.ceil(topLeft.x() + dimensions.x());
+        int maxY = (int) Math.ceil(topLeft.y() + dimensions.y());
+        clearArea(minX, minY, maxX - minX, maxY - minY);
+        canvas.setClip(minX, minY, maxX - minX, maxY - minY);
+        for (Brick neighbour : brickGrid.findOverlapping(minX, minY, maxX, maxY)) {
+            drawBrick(neighbour);
+        }
+        canvas.setClip(null);
+    }
+
+    /**
+     * Erases every brick from the layer.
+     */
+    public void clear() {
+        clearArea(0, 0, image.getWidth(), image.getHeight());
+    }
+
+    /**
+     * Makes an area of the layer transparent.
+     * @param x      Left edge.
+     * @param y      Top edge.
+     * @param width  Width.
+     * @param height Height.
+     */
+    private void clearArea(int x, int y, int width, int height) {
+        canvas.setComposite(AlphaComposite.Clear);
+        canvas.fillRect(x, y, width, height);
+        canvas.setComposite(drawComposite);
+    }
+
+    /**
+     * Draws the layer's image.
+     * @param g                        Graphics to draw on.
+     * @param topLeftCorner            Top-left corner of the layer.
+     * @param dimensions               Size of the layer (ignored, the image keeps its size).
+     * @param degreesCounterClockwise  Rotation (ignored).
+     * @param isFlippedHorizontally    Horizontal flip (ignored).
+     * @param isFlippedVertically      Vertical flip (ignored).
+     * @param opaqueness               Opaqueness (ignored).
+     */
+    @Override
+    public void render(Graphics2D g, Vector2 topLeftCorner, Vector2 dimensions,
+                       double degreesCounterClockwise, boolean isFlippedHorizontally,
+                       boolean isFlippedVertically, double opaqueness) {
+        g.drawImage(image, (int) topLeftCorner.x(), (int) topLeftCorner.y(), null);
+    }
+}
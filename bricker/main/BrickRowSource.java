@@ -0,0 +1,90 @@
+package bricker.main;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * This class generates rows of brick strategy ids for endless mode on a background thread,
+ * so the frame thread only takes ready rows from a queue. The queue and the row arrays are
+ * bounded and recycled, so a session of any length holds the same memory. Rows come out in
+ * the order they were rolled, which keeps a seeded endless game reproducible.
+ */
+public class BrickRowSource {
+    private static final String THREAD_NAME = "brick-row-source";
+    private final int columns;
+    private final int strategyRollRange;
+    private final SplittableRandom random;
+    private final BlockingQueue<byte[]> readyRows;
+    private final BlockingQueue<byte[]> freeRows;
+    private final Thread thread;
+
+    /**
+     * Constructor for BrickRowSource. The generating thread starts right away.
+     * @param columns           Number of bricks in a row.
+     * @param strategyRollRange Range strategy ids are rolled from, see GameTuning.
+     * @param random            Random stream the rows are rolled from, used only by the
+     *                          generating thread.
+     * @param capacity          Number of rows generated ahead of time.
+     */
+    public BrickRowSource(int columns, int strategyRollRange, SplittableRandom random,
+                          int capacity) {
+        this.columns = columns;
+        this.strategyRollRange = strategyRollRange;
+        this.random = random;
+        this.readyRows = new ArrayBlockingQueue<>(capacity);
+        this.freeRows = new ArrayBlockingQueue<>(capacity + 1);
+        for (int i = 0; i < capacity + 1; i++) {
+            freeRows.add(new byte[columns]);
+        }
+        this.thread = new Thread(this::generateRows, THREAD_NAME);
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Generates rows until the source is closed, waiting whenever the queue is full.
+     */
+    private void generateRows() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                byte[] row = freeRows.take();
+                for (int i = 0; i < columns; i++) {
+                    row[i] = (byte) random.nextInt(strategyRollRange);
+                }
+                readyRows.put(row);
+            }
+        } catch (InterruptedException e) {
+            // closed
+        }
+    }
+
+    /**
+     * Takes the next row of strategy ids, waiting if it's not generated yet. The row must be
+     * given back with recycle once it was read.
+     * @return Strategy ids of the row's bricks, one per column.
+     */
+    public byte[] nextRow() {
+        try {
+            return readyRows.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a brick row", e);
+        }
+    }
+
+    /**
+     * Gives back a row returned by nextRow, so it can be filled again.
+     * @param row Row to recycle.
+     */
+    public void recycle(byte[] row) {
+        freeRows.offer(row);
+    }
+
+    /**
+     * Stops the generating thread.
+     */
+    public void close() {
+        thread.interrupt();
+    }
+}
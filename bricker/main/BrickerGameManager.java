@@ -2,6 +2,7 @@ package bricker.main;
 
 import bricker.brick_strategies.BrickerCollisionStrategyFactory;
 import bricker.brick_strategies.CollisionStrategy;
+import bricker.brick_strategies.DoubleCollisionStrategy;
 import bricker.gameobjects.*;
 import danogl.GameManager;
 import danogl.GameObject;
@@ -12,7 +13,16 @@ import danogl.util.Vector2;
 import danogl.collisions.Layer;
 import bricker.gameobjects.Paddle;
 import java.awt.*;
-import java.util.Random;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
 
 /**
  * BrickerGameManager implements a "Brick" game. It creates and initializes the game, updating
@@ -35,21 +45,21 @@ public class BrickerGameManager extends GameManager {
     private static final int CEILING_HEIGHT = 10;
     private static final int BRICK_HEIGHT = 20;
     private static final int W_KEY = 87;
-    private static final int BALL_VELOCITY = 150;
     private static final int HEART_VELOCITY = 100;
-    private static final int EXTRA_PUDDLE_MAX_COLLISIONS = 4;
     private static final int ROWS = 7;
     private static final int COLS = 8;
-    private static final int FALLING_HEARTS_ARR_SIZE = 5;
+    private static final int FALLING_HEARTS_CAPACITY = 5;
     private static final int PADDLES_NUMBER = 2;
     private static final float BRICK_CONST = 5;
-    private static final float VELOCITY_FACTOR = 1.4F;
     private static final int MAX_HEARTS = 4;
     private static final int INITIAL_HEARTS = 3;
+    private static final int PUCK_BALL_POOL_CAPACITY = 64;
+    private static final int MAX_SOUND_VOICES = 8;
+    private static final long SOUND_VOICE_NANOS = 200_000_000L;
+    private static final long SOUND_MERGE_NANOS = 10_000_000L;
 
     // Objects dimensions and positions
     private static final Vector2 BALL_DIM = new Vector2(20,20);
-    private static final Vector2 ORIGINAL_VELOCITY = new Vector2(150, 150);
     private static final Vector2 PUCK_BALL_DIM =  new Vector2(15, 15);
     private static final Vector2 PADDLE_DIM = new Vector2(100, 15);
     private static final Vector2 HEART_DIM = new Vector2(15, 15);
@@ -59,40 +69,78 @@ public class BrickerGameManager extends GameManager {
     private static final Vector2 HEART_SIZE = new Vector2(30, 30);
     private static final Vector2 HEART_START_POSITION = new Vector2(10, 460);
     private static final Vector2 BALL_START_POSITION = new Vector2(350, 250);
+    private static final Vector2 HEART_FALL_VELOCITY = new Vector2(ZERO, HEART_VELOCITY);
 
     // Window messages
     private static final String WINDOW_NAME = "Brick";
     private static final String LOSING_MESSSAGE = "You lose! Play again?";
     private static final String WINNIG_MESSAGE = "You win! Play again?";
     private static final String LIVES = "Lives: ";
-    // Name tags
-    private static final String BALL_TAG = "ball";
-    private static final String BRICK_TAG = "brick";
-    private static final String EXTRA_PUDDLE_TAG = "extraPaddle";
-    private static final String USER_PADDLE_TAG = "userPaddle";
-    private static final String LEFT_WALL_TAG = "leftWall";
-    private static final String RIGHT_WALL_TAG = "rightWall";
-    private static final String HEART_TAG = "heart";
-    private static final String PUCK_BALL_TAG = "puckBall";
     private static final String FONT = "Impact";
+    private static final String SEED_OPTION = "--seed";
+    private static final String STATS_OPTION = "--stats";
+    private static final String LEVEL_OPTION = "--level";
+    private static final String ENDLESS_OPTION = "--endless";
+    private static final String RECORD_OPTION = "--record";
+    private static final long STATS_INTERVAL_NANOS = 5_000_000_000L;
+    private static final float PHYSICS_STEP = 1f / 60;
+    private static final float MAX_FRAME_TIME = 0.25F;
+    private static final float MAX_INTERPOLATED_DISTANCE = 50;
+    private static final int MAX_SWEPT_IMPACTS = 3;
+    private static final int SNAPSHOT_MAGIC = 0x42524B53;
+    private static final int SNAPSHOT_VERSION = 4;
+    private static final int UNRESOLVED_BEHAVIORS = -1;
 
     // Game Objects as class fields
     private final Vector2 brickDimensions;
-    private ImageReader imageReader;
+    private final long seed;
+    private final SplittableRandom seedRandom;
+    private final GameTuning tuning;
+    private GameRandom gameRandom;
+    private Path levelPath;
+    private long levelChecksum = 0;
+    private boolean isEndless = false;
+    private EndlessBoard endlessBoard;
+    private BrickerCollisionStrategyFactory strategyFactory;
+    private Brick[] fieldBricks = new Brick[0];
+    private boolean isResetPending = false;
+    private InputRecorder inputRecorder;
+    private final FixedTimestep timestep = new FixedTimestep(PHYSICS_STEP, MAX_FRAME_TIME);
+    private final SweptCollision sweptCollision = new SweptCollision();
+    private GameObject[] walls = new GameObject[0];
+    private final CollisionMatrix collisionMatrix = createCollisionMatrix();
+    private BrickLayerRenderable brickLayer;
+    private final List<Runnable> exitActions = new ArrayList<>();
+    private final List<Brick> redrawnBricks = new ArrayList<>();
+    private final RenderInterpolator renderInterpolator =
+            new RenderInterpolator(MAX_INTERPOLATED_DISTANCE);
+    private final AssetCache assetCache = new AssetCache();
+    private final FrameStats frameStats = new FrameStats();
+    private final SoundMixer soundMixer = new SoundMixer(MAX_SOUND_VOICES, SOUND_VOICE_NANOS,
+            SOUND_MERGE_NANOS);
+    private final GameObjectCommandBuffer commandBuffer = new GameObjectCommandBuffer();
+    private final ObjectPool<PuckBall> puckBallPool = new ObjectPool<>(PUCK_BALL_POOL_CAPACITY);
     private Vector2 windowDimensions;
     private WindowController windowController;
     private Ball ball;
-    private SoundReader soundReader;
     private UserInputListener userInputListener;
     private LivesManager livesManager;
     private GraphicLives graphicLives;
     private float brickCounter;
-    private Heart[] hearts;
+    private HeartPool heartPool;
+    private int heartsCapacity = FALLING_HEARTS_CAPACITY;
+    private HeartOverflowPolicy heartOverflowPolicy = HeartOverflowPolicy.DROP_NEW;
+    private int droppedHearts = 0;
     private Paddle[] gamePaddles;
     private Paddle extraPaddle;
     private boolean isExtraPaddleActive = false;
-    private boolean isHeartActive = false;
+    private boolean isGameWon = false;
+    private boolean isGameLost = false;
     private Renderable ballImage;
+    private BrickGrid brickGrid;
+    private Brick[] hitBricks = new Brick[0];
+    private BrickField brickField;
+    private List<Ball> activeBalls;
 
     /**
      * Constructor for Bricker game manager.
@@ -103,8 +151,39 @@ public class BrickerGameManager extends GameManager {
      */
     public BrickerGameManager(String windowTitle, Vector2 windowDimensions,
                               Vector2 brickDimensions) {
+        this(windowTitle, windowDimensions, brickDimensions, System.nanoTime());
+    }
+
+    /**
+     * Constructor for Bricker game manager with a fixed random seed. Two games created with
+     * the same seed get identical boards and identical power-up rolls.
+     *
+     * @param windowTitle      Title of the game window.
+     * @param windowDimensions Dimensions of the game window.
+     * @param brickDimensions  Dimensions for bricks (rows, columns).
+     * @param seed             Seed of all the game's randomness.
+     */
+    public BrickerGameManager(String windowTitle, Vector2 windowDimensions,
+                              Vector2 brickDimensions, long seed) {
+        this(windowTitle, windowDimensions, brickDimensions, seed, GameTuning.DEFAULT);
+    }
+
+    /**
+     * Constructor for Bricker game manager with a fixed random seed and custom balancing.
+     *
+     * @param windowTitle      Title of the game window.
+     * @param windowDimensions Dimensions of the game window.
+     * @param brickDimensions  Dimensions for bricks (rows, columns).
+     * @param seed             Seed of all the game's randomness.
+     * @param tuning           Gameplay balancing parameters.
+     */
+    public BrickerGameManager(String windowTitle, Vector2 windowDimensions,
+                              Vector2 brickDimensions, long seed, GameTuning tuning) {
         super(windowTitle, windowDimensions);
         this.brickDimensions = brickDimensions;
+        this.seed = seed;
+        this.seedRandom = new SplittableRandom(seed);
+        this.tuning = tuning;
     }
     /**
      * Getter for Window dimensions.
@@ -114,6 +193,151 @@ public class BrickerGameManager extends GameManager {
         return this.windowDimensions;
     }
 
+    /**
+     * Getter for the asset cache, shared across game resets.
+     * @return Asset cache of this game.
+     */
+    public AssetCache getAssetCache() {
+        return this.assetCache;
+    }
+
+    /**
+     * Sets a binary level file to load the bricks from, instead of laying out a grid of
+     * bricks by the brick dimensions. Takes effect from the next initialized game.
+     * @param levelPath Level file written by LevelFile, or null to lay out a grid.
+     */
+    public void setLevel(Path levelPath) {
+        this.levelPath = levelPath;
+    }
+
+    /**
+     * Sets endless mode: cleared bottom rows are replaced by new rows sliding in from the top,
+     * and the game is not won by clearing the bricks. Ignored when a level file is set.
+     * Takes effect from the next initialized game.
+     * @param isEndless True to play endless games.
+     */
+    public void setEndless(boolean isEndless) {
+        this.isEndless = isEndless;
+    }
+
+    /**
+     * Getter for the board of the current endless game.
+     * @return The endless board, or null if the current game is not endless.
+     */
+    public EndlessBoard getEndlessBoard() {
+        return this.endlessBoard;
+    }
+
+    /**
+     * Records the player's input from the next initialized game on, so the session can be
+     * replayed with InputReplay.
+     * @param inputRecorder Recorder wrapping the game's input listener.
+     */
+    public void setInputRecorder(InputRecorder inputRecorder) {
+        this.inputRecorder = inputRecorder;
+    }
+
+    /**
+     * Creates a log of the input recorded so far, with the settings needed to replay it.
+     * @return The input log.
+     * @throws IllegalStateException If input is not recorded.
+     */
+    public InputLog getRecordedInput() {
+        if (inputRecorder == null) {
+            throw new IllegalStateException("Input is not recorded");
+        }
+        return inputRecorder.toLog(seed, windowDimensions, brickDimensions, isEndless, tuning,
+                levelPath, levelChecksum);
+    }
+
+    /**
+     * Getter for the gameplay balancing parameters.
+     * @return Balancing parameters of this game.
+     */
+    public GameTuning getTuning() {
+        return this.tuning;
+    }
+
+    /**
+     * Checks if the current game was won (all bricks destroyed).
+     * @return True if the win condition was reached since the game was initialized.
+     */
+    public boolean isGameWon() {
+        return this.isGameWon;
+    }
+
+    /**
+     * Checks if the current game was lost (no lives left).
+     * @return True if the lose condition was reached since the game was initialized.
+     */
+    public boolean isGameLost() {
+        return this.isGameLost;
+    }
+
+    /**
+     * Getter for the frame statistics, shared across game resets.
+     * @return Frame statistics of this game.
+     */
+    public FrameStats getFrameStats() {
+        return this.frameStats;
+    }
+
+    /**
+     * Getter for the collision matrix, which declares the entity kinds that collide. It can be
+     * changed with setCollides; objects read it on every test.
+     * @return Collision matrix of this game.
+     */
+    public CollisionMatrix getCollisionMatrix() {
+        return this.collisionMatrix;
+    }
+
+    /**
+     * Declares the pairs of entity kinds that collide. A pair is only tested if one of its
+     * objects reacts to the collision: balls bounce off everything but hearts, the extra
+     * paddle counts every hit it takes, and hearts are collected by the user paddle. Bricks,
+     * walls and the user paddle never need to be tested against each other. Balls against
+     * bricks, walls and paddles are resolved by the game's swept pass, not by the engine.
+     * @return The game's initial collision matrix.
+     */
+    private static CollisionMatrix createCollisionMatrix() {
+        CollisionMatrix matrix = new CollisionMatrix();
+        int[] ballKinds = {EntityKind.BALL, EntityKind.PUCK_BALL};
+        int[] sweptKinds = {EntityKind.BRICK, EntityKind.WALL, EntityKind.USER_PADDLE,
+                EntityKind.EXTRA_PADDLE};
+        for (int ballKind : ballKinds) {
+            for (int otherBallKind : ballKinds) {
+                matrix.setCollides(ballKind, otherBallKind, true);
+            }
+            // bricks, walls and paddles are swept by sweepBalls, which bounces the ball and
+            // counts the hit; the engine must not do it again
+            for (int sweptKind : sweptKinds) {
+                matrix.setCollides(ballKind, sweptKind, true);
+                matrix.setResolvedByGame(ballKind, sweptKind, true);
+            }
+        }
+        matrix.setCollides(EntityKind.EXTRA_PADDLE, EntityKind.WALL, true);
+        matrix.setCollides(EntityKind.EXTRA_PADDLE, EntityKind.USER_PADDLE, true);
+        matrix.setCollides(EntityKind.HEART, EntityKind.USER_PADDLE, true);
+        return matrix;
+    }
+
+    /**
+     * Getter for the sound mixer all game sounds are played through.
+     * @return Sound mixer of this game.
+     */
+    public SoundMixer getSoundMixer() {
+        return this.soundMixer;
+    }
+
+    /**
+     * Getter for the random stream of the current game. All gameplay randomness
+     * (ball directions, power-up rolls) must come from it, so seeded games are reproducible.
+     * @return Random stream of the current game.
+     */
+    public GameRandom getRandom() {
+        return this.gameRandom;
+    }
+
     /**
      * Initializes game by setting up objects and game window.
      * This methods called only once, in the begging of the game.
@@ -130,43 +354,219 @@ public class BrickerGameManager extends GameManager {
                                UserInputListener inputListener,
                                WindowController windowController) {
         super.initializeGame(imageReader, soundReader, inputListener, windowController);
-        this.imageReader = imageReader;
+        this.assetCache.setReaders(imageReader, soundReader);
         this.windowDimensions = windowController.getWindowDimensions();
         this.windowController = windowController;
-        this.soundReader = soundReader;
+        if (this.inputRecorder != null) {
+            this.inputRecorder.setDelegate(inputListener);
+            inputListener = this.inputRecorder;
+        }
         this.userInputListener = inputListener;
         Vector2 windowDimensions = windowController.getWindowDimensions();
         this.gamePaddles = new Paddle[PADDLES_NUMBER];
+        this.isGameWon = false;
+        this.isGameLost = false;
+        this.isResetPending = false;
+        this.timestep.reset();
+        this.renderInterpolator.clear();
+        this.isExtraPaddleActive = false;
+        this.extraPaddle = null;
+        // each game gets its own streams: one for building the board, one for gameplay
+        SplittableRandom boardRandom = this.seedRandom.split();
+        this.gameRandom = new GameRandom(this.seedRandom.nextLong());
+        // puck balls of a previous game were discarded with its objects
+        this.puckBallPool.clearLive();
+        // requests queued for a previous game refer to its discarded objects
+        this.commandBuffer.clear();
+        this.activeBalls = new ArrayList<>();
+        this.fieldBricks = new Brick[0];
+        // bricks are tested against balls by the brick grid, not by the engine
+        gameObjects().layers().shouldLayersCollide(Layer.DEFAULT, Layer.STATIC_OBJECTS, false);
+        gameObjects().layers().shouldLayersCollide(Layer.STATIC_OBJECTS, Layer.STATIC_OBJECTS, false);
         // Calling all the functions that build the basic game
-        addBackground(imageReader, windowDimensions);
+        addBackground(windowDimensions);
+        addBrickLayer(windowDimensions);
         initializeLivesSystem();
         createBall();
         createUserPuddle();
         initializeBorders(this.windowDimensions);
-        createBricks(this.brickDimensions);
-        this.hearts = new Heart[FALLING_HEARTS_ARR_SIZE];
+        if (this.endlessBoard != null) {
+            this.endlessBoard.close();
+            this.endlessBoard = null;
+        }
+        if (this.levelPath != null) {
+            loadBricks(this.levelPath, boardRandom);
+        } else if (this.isEndless) {
+            createEndlessBricks(this.brickDimensions, boardRandom);
+        } else {
+            createBricks(this.brickDimensions, boardRandom);
+        }
+        this.heartPool = new HeartPool(this.heartsCapacity);
+        this.droppedHearts = 0;
+        this.commandBuffer.apply(gameObjects());
+    }
+
+    /**
+     * Checks if the current game ended and the player chose to play again. The new game
+     * starts at the beginning of the next frame.
+     * @return True if a restart is pending.
+     */
+    public boolean isResetPending() {
+        return this.isResetPending;
+    }
+
+    /**
+     * Starts a new game in place, instead of rebuilding it with initializeGame: assets stay
+     * decoded, and the ball, paddle, lives and brick objects are rewound to their initial
+     * state. Bricks destroyed in the last game are put back and every brick's strategy is
+     * rolled again (level files keep their strategies). Endless games rebuild their board.
+     * Must be called between frames, not from an object's update.
+     */
+    public void restartGame() {
+        this.isResetPending = false;
+        this.renderInterpolator.restore();
+        this.renderInterpolator.clear();
+        this.isGameWon = false;
+        this.isGameLost = false;
+        // same streams, in the same order, as initializeGame
+        SplittableRandom boardRandom = this.seedRandom.split();
+        this.gameRandom = new GameRandom(this.seedRandom.nextLong());
+        for (int i = activeBalls.size() - 1; i >= 0; i--) {
+            if (activeBalls.get(i) instanceof PuckBall) {
+                removePuckBall((PuckBall) activeBalls.get(i));
+            }
+        }
+        removeAllHearts();
+        this.droppedHearts = 0;
+        removeExtraPaddle();
+        livesManager.setLives(INITIAL_HEARTS, MAX_HEARTS);
+        if (ball.isTurboBall()) {
+            ball.renderer().setRenderable(this.ballImage);
+            ball.setTurboState(false, 0);
+        }
+        float ballVelocity = tuning.getBallVelocity();
+        ball.setVelocity(new Vector2(gameRandom.nextBoolean() ? ballVelocity :
+                -ballVelocity, ballVelocity));
+        ball.setCenter(BALL_START_POSITION);
+        gamePaddles[0].setCenter(userPaddleStartCenter());
+        if (this.endlessBoard != null) {
+            rebuildEndlessBricks(boardRandom);
+        } else {
+            rewindBricks(boardRandom);
+        }
+        this.commandBuffer.apply(gameObjects());
+    }
+
+    /**
+     * Puts back the bricks destroyed in the last game and rolls the strategies again, in the
+     * same order as createBricks and createVisibleBricks do.
+     * @param boardRandom Random stream used to roll the bricks' strategies.
+     */
+    private void rewindBricks(SplittableRandom boardRandom) {
+        for (Brick brick : fieldBricks) {
+            if (brick != null && !brickField.isAlive(brick.getFieldIndex())) {
+                brickLayer.drawBrick(brick);
+                brickGrid.add(brick);
+            }
+        }
+        this.strategyFactory = new BrickerCollisionStrategyFactory(this, boardRandom);
+        boolean isRolled = this.levelPath == null;
+        for (int i = 0; i < brickField.size(); i++) {
+            brickField.set(i, brickField.getX(i), brickField.getY(i), brickField.getWidth(i),
+                    brickField.getHeight(i),
+                    isRolled ? strategyFactory.rollStrategyId() : brickField.getStrategyId(i));
+        }
+        for (Brick brick : fieldBricks) {
+            if (brick != null) {
+                brick.setCollisionStrategy(strategyFactory.createStrategy(
+                        brickField.getStrategyId(brick.getFieldIndex())));
+            }
+        }
+        this.brickCounter = brickField.size();
+    }
+
+    /**
+     * Removes the bricks of an endless game and creates a new endless board.
+     * @param boardRandom Random stream used to roll the bricks' strategies.
+     */
+    private void rebuildEndlessBricks(SplittableRandom boardRandom) {
+        this.brickLayer.clear();
+        this.endlessBoard.close();
+        createEndlessBricks(this.brickDimensions, boardRandom);
     }
 
     /**
      * Game update logic Called once per frame, Overriding the GameManager update() method.
-     * update every element, and handling winning and losing.
+     * The frame's time is simulated in fixed steps of PHYSICS_STEP seconds, so the game plays
+     * the same at any frame rate; time left over carries to the next frame, and moving
+     * objects are drawn interpolated between their last two simulated positions. When a game
+     * ends, its remaining steps are skipped and it is restarted at the start of the next frame.
      * @param deltaTime The time, in seconds, that passed since the last invocation
      *                  of this method (i.e., since the last frame).
      */
     @Override
     public void update(float deltaTime) {
-        super.update(deltaTime);
+        long phaseStart = frameStats.beginFrame();
+        if (this.inputRecorder != null) {
+            this.inputRecorder.beginFrame(deltaTime);
+        }
+        // a game that ended in the last frame is restarted here, so until then callers can
+        // see how it ended
+        if (this.isResetPending) {
+            restartGame();
+        }
+        renderInterpolator.restore();
+        int steps = timestep.advance(deltaTime);
+        for (int i = 0; i < steps; i++) {
+            if (i == steps - 1) {
+                captureMovingObjects();
+            }
+            phaseStart = simulateStep(timestep.getStep(), phaseStart);
+            if (this.isResetPending) {
+                // the ended game does not run the frame's remaining steps, nor is it drawn
+                // interpolated from positions captured for them
+                renderInterpolator.clear();
+                break;
+            }
+        }
+        if (this.userInputListener.isKeyPressed(W_KEY)) {
+            handleWinCondition();
+        }
+        this.commandBuffer.apply(gameObjects());
+        renderInterpolator.interpolate(timestep.getAlpha());
+        frameStats.endFrame(activeBalls.size(), brickField.getAliveCount(),
+                collisionMatrix.takeSkippedTests());
+    }
+
+    /**
+     * Simulates one fixed step of the game: moves every element, and handles winning and
+     * losing. Frame statistics phases are recorded once per step.
+     * @param step       Simulated time, in seconds.
+     * @param phaseStart Time the step's first phase started, in nanoseconds.
+     * @return Time the step ended, to time the next phase with.
+     */
+    private long simulateStep(float step, long phaseStart) {
+        sweepBalls(step);
+        super.update(step);
+        phaseStart = frameStats.recordPhase(FrameStats.ENGINE_NANOS, phaseStart);
+        collideBallsWithBricks();
+        if (this.endlessBoard != null) {
+            this.endlessBoard.advance();
+        }
+        phaseStart = frameStats.recordPhase(FrameStats.BRICK_COLLISIONS_NANOS, phaseStart);
         if (this.extraPaddle != null){
-            if (this.extraPaddle.getExtraHitcount() >= EXTRA_PUDDLE_MAX_COLLISIONS) {
+            if (this.extraPaddle.getExtraHitcount() >= tuning.getExtraPaddleMaxCollisions()) {
                 removeExtraPaddle();
             }
         }
-        if (ball.getCenter().y() > windowDimensions.y()) {
+        if (centerY(ball) > windowDimensions.y()) {
             livesManager.loseLife();
             if (livesManager.isGameOver()) {
+                isGameLost = true;
                 if (windowController.openYesNoDialog(LOSING_MESSSAGE)) {
-                    windowController.resetGame();
+                    this.isResetPending = true;
                 } else {
+                    runExitActions();
                     windowController.closeWindow();
                 }
             } else {
@@ -174,37 +574,222 @@ public class BrickerGameManager extends GameManager {
                         windowDimensions.x()/2,windowDimensions.y()/2));
             }
         }
-        if (hearts != null) {
-            for (int i = 0; i < hearts.length; i++) {
-                if(hearts[i] != null){
-                    hearts[i].setVelocity(new Vector2(ZERO, HEART_VELOCITY));
+        // objects added or removed in this step take part in the next one
+        this.commandBuffer.apply(gameObjects());
+        return frameStats.recordPhase(FrameStats.GAME_CHECKS_NANOS, phaseStart);
+    }
+
+    /**
+     * Moves every ball through the step's earliest impacts against bricks, walls and paddles
+     * (swept collision), so fast balls can't pass through thin objects between steps. Balls
+     * that hit something are bounced at the point of impact and placed so that the engine's
+     * move for the step ends where the rest of their motion takes them.
+     * @param step Simulated time, in seconds.
+     */
+    private void sweepBalls(float step) {
+        // balls created by strategies during this pass are swept from the next step
+        int ballsCount = activeBalls.size();
+        for (int i = 0; i < ballsCount && i < activeBalls.size(); i++) {
+            sweepBall(activeBalls.get(i), step);
+        }
+    }
+
+    /**
+     * Moves a ball through the step's earliest impacts, up to MAX_SWEPT_IMPACTS of them.
+     * @param ball Ball to move.
+     * @param step Simulated time, in seconds.
+     */
+    private void sweepBall(Ball ball, float step) {
+        Vector2 topLeft = ball.getTopLeftCorner();
+        float x = topLeft.x();
+        float y = topLeft.y();
+        float width = ball.getDimensions().x();
+        float height = ball.getDimensions().y();
+        float remaining = 1;
+        boolean isMoved = false;
+        for (int impact = 0; impact < MAX_SWEPT_IMPACTS; impact++) {
+            float dx = ball.getVelocity().x() * step * remaining;
+            float dy = ball.getVelocity().y() * step * remaining;
+            sweptCollision.begin(x, y, width, height, dx, dy);
+            List<Brick> bricks = brickGrid.findOverlapping(Math.min(x, x + dx),
+                    Math.min(y, y + dy), Math.max(x, x + dx) + width, Math.max(y, y + dy) + height);
+            if (collisionMatrix.shouldCollide(ball.getKind(), EntityKind.BRICK, bricks.size())) {
+                for (Brick brick : bricks) {
+                    sweptCollision.test(brick, 0, 0);
                 }
             }
+            for (GameObject wall : walls) {
+                if (collisionMatrix.shouldCollide(ball.getKind(), EntityKind.of(wall))) {
+                    sweptCollision.test(wall, 0, 0);
+                }
+            }
+            for (Paddle paddle : gamePaddles) {
+                if (paddle != null &&
+                        collisionMatrix.shouldCollide(ball.getKind(), paddle.getKind())) {
+                    sweptCollision.test(paddle, paddle.getVelocity().x() * step * remaining,
+                            paddle.getVelocity().y() * step * remaining);
+                }
+            }
+            if (extraPaddle != null &&
+                    collisionMatrix.shouldCollide(ball.getKind(), extraPaddle.getKind())) {
+                sweptCollision.test(extraPaddle, extraPaddle.getVelocity().x() * step * remaining,
+                        extraPaddle.getVelocity().y() * step * remaining);
+            }
+            if (!sweptCollision.hasImpact()) {
+                break;
+            }
+            float time = sweptCollision.getTime();
+            x += dx * time;
+            y += dy * time;
+            remaining *= 1 - time;
+            isMoved = true;
+            GameObject target = sweptCollision.getTarget();
+            ball.bounce(target, sweptCollision.getNormal());
+            if (target instanceof Brick) {
+                ((Brick) target).hit(ball);
+            } else if (target instanceof Paddle) {
+                ((Paddle) target).countHit();
+            }
         }
-        if (this.userInputListener.isKeyPressed(W_KEY)) {
-            handleWinCondition();
+        if (isMoved) {
+            // the engine moves the ball a full step from here
+            float rewind = step * (1 - remaining);
+            ball.transform().setTopLeftCorner(x - ball.getVelocity().x() * rewind,
+                    y - ball.getVelocity().y() * rewind);
+        }
+    }
+
+    /**
+     * Captures the positions of the moving objects before the frame's last step, to draw
+     * them interpolated after it.
+     */
+    private void captureMovingObjects() {
+        renderInterpolator.clear();
+        for (Ball activeBall : activeBalls) {
+            renderInterpolator.capture(activeBall);
+        }
+        renderInterpolator.capture(gamePaddles[0]);
+        if (extraPaddle != null) {
+            renderInterpolator.capture(extraPaddle);
+        }
+        for (int i = 0; i < heartPool.getLiveCount(); i++) {
+            renderInterpolator.capture(heartPool.get(i));
         }
     }
+    /**
+     * Tests every ball against the bricks in the grid cells it overlaps. Each overlapping brick
+     * is hit, and the ball bounces once off the first of them.
+     */
+    private void collideBallsWithBricks() {
+        // balls created by strategies during this pass are tested from the next frame
+        int ballsCount = activeBalls.size();
+        for (int i = 0; i < ballsCount && i < activeBalls.size(); i++) {
+            Ball ball = activeBalls.get(i);
+            List<Brick> overlapping = brickGrid.findOverlapping(ball);
+            if (overlapping.isEmpty() || !collisionMatrix.shouldCollide(ball.getKind(),
+                    EntityKind.BRICK, overlapping.size())) {
+                continue;
+            }
+            ball.bounce(overlapping.get(0), collisionNormal(ball, overlapping.get(0)));
+            // hitting removes bricks from the grid, which reuses the list
+            int hitsCount = overlapping.size();
+            if (hitBricks.length < hitsCount) {
+                hitBricks = new Brick[hitsCount];
+            }
+            overlapping.toArray(hitBricks);
+            for (int j = 0; j < hitsCount; j++) {
+                hitBricks[j].hit(ball);
+                hitBricks[j] = null;
+            }
+        }
+    }
+
+    /**
+     * Calculates the normal of a collision between two overlapping boxes: along the axis
+     * with the smaller penetration.
+     * @param ball  Moving object.
+     * @param other Object it collided with.
+     * @return Unit normal of the collision.
+     */
+    private static Vector2 collisionNormal(GameObject ball, GameObject other) {
+        float dx = centerX(ball) - centerX(other);
+        float dy = centerY(ball) - centerY(other);
+        float overlapX = (ball.getDimensions().x() + other.getDimensions().x()) / 2 - Math.abs(dx);
+        float overlapY = (ball.getDimensions().y() + other.getDimensions().y()) / 2 - Math.abs(dy);
+        if (overlapX < overlapY) {
+            return dx < 0 ? Vector2.LEFT : Vector2.RIGHT;
+        }
+        return dy < 0 ? Vector2.UP : Vector2.DOWN;
+    }
+
+    /**
+     * Calculates an object's center x without allocating a vector.
+     * @param obj Game object.
+     * @return X of the object's center.
+     */
+    private static float centerX(GameObject obj) {
+        return obj.getTopLeftCorner().x() + obj.getDimensions().x() / 2;
+    }
+
+    /**
+     * Calculates an object's center y without allocating a vector.
+     * @param obj Game object.
+     * @return Y of the object's center.
+     */
+    private static float centerY(GameObject obj) {
+        return obj.getTopLeftCorner().y() + obj.getDimensions().y() / 2;
+    }
+
     /**
      * Handles winning condition when the player destroys all bricks, informs it,
      * and checks if the player wants to play again or exit the game.
      */
     private void handleWinCondition() {
+        isGameWon = true;
         if (windowController.openYesNoDialog(WINNIG_MESSAGE)) {
-            windowController.resetGame();
+            this.isResetPending = true;
         } else {
+            runExitActions();
             windowController.closeWindow();
         }
     }
 
+    /**
+     * Adds an action to run once when the game exits, on the game thread: right before the
+     * game closes its window, or when run returns. Unlike a shutdown hook, the action can
+     * safely read state the game thread writes, such as the frame statistics.
+     * @param action Action to run.
+     */
+    public void addExitAction(Runnable action) {
+        this.exitActions.add(action);
+    }
+
+    /**
+     * Runs the game loop, then the exit actions that did not run yet.
+     */
+    @Override
+    public void run() {
+        super.run();
+        runExitActions();
+    }
+
+    /**
+     * Runs the exit actions once, in the order they were added.
+     */
+    private void runExitActions() {
+        for (Runnable action : exitActions) {
+            action.run();
+        }
+        exitActions.clear();
+    }
+
     // THESE NEXT FUNCTIONS CREATING AND INITIALIZE THE BASIC GAME, WITHOUT EXTENSIONS
     /**
      * Adds background image to the game.
-     * @param imageReader      Background image reader to load.
      * @param windowDimensions Dimensions of game window.
      */
-    private void addBackground(ImageReader imageReader, Vector2 windowDimensions) {
-        Renderable backgroundImage = imageReader.readImage(BACKGROUND_PATH,
+    private void addBackground(Vector2 windowDimensions) {
+        Renderable backgroundImage = assetCache.readImage(BACKGROUND_PATH,
                 false);
         GameObject background = new GameObject(
                 Vector2.ZERO,
@@ -212,6 +797,36 @@ public class BrickerGameManager extends GameManager {
                 backgroundImage);
         gameObjects().addGameObject(background, Layer.BACKGROUND);
     }
+
+    /**
+     * Adds the brick layer, which draws all the bricks as one object, to the game. Its image
+     * is kept between games and cleared, since it only depends on the window's size.
+     * @param windowDimensions Dimensions of game window.
+     */
+    private void addBrickLayer(Vector2 windowDimensions) {
+        if (this.brickLayer == null) {
+            this.brickLayer = new BrickLayerRenderable((int) Math.ceil(windowDimensions.x()),
+                    (int) Math.ceil(windowDimensions.y()));
+        } else {
+            this.brickLayer.clear();
+        }
+        GameObject brickLayerObject = new GameObject(Vector2.ZERO, windowDimensions,
+                this.brickLayer);
+        gameObjects().addGameObject(brickLayerObject, Layer.STATIC_OBJECTS);
+    }
+
+    /**
+     * Draws the brick layer again from the bricks in the brick grid, after bricks moved.
+     */
+    void redrawBrickLayer() {
+        this.redrawnBricks.clear();
+        this.brickGrid.collectBricks(this.redrawnBricks);
+        this.brickLayer.clear();
+        for (Brick brick : this.redrawnBricks) {
+            this.brickLayer.drawBrick(brick);
+        }
+        this.redrawnBricks.clear();
+    }
     /**
      * Creates left wall, right wall and ceiling.
      * @param windowDimensions Dimensions of game window.
@@ -220,60 +835,70 @@ public class BrickerGameManager extends GameManager {
         float boardHeight = windowDimensions.y();
         float boardWidth = windowDimensions.x();
         // Left wall creation
-        GameObject leftWall = new GameObject(
+        KindedGameObject leftWall = new KindedGameObject(
                 Vector2.ZERO,
                 new Vector2(WALLS_WIDTH, boardHeight),
-                null);
+                null, EntityKind.WALL);
         gameObjects().addGameObject(leftWall);
-        leftWall.setTag(LEFT_WALL_TAG);
         // Right wall creation
-        GameObject rightWall = new GameObject(
+        KindedGameObject rightWall = new KindedGameObject(
                 new Vector2(boardWidth - WALLS_WIDTH, ZERO),
-                new Vector2(WALLS_WIDTH, boardHeight), null);
+                new Vector2(WALLS_WIDTH, boardHeight), null, EntityKind.WALL);
         gameObjects().addGameObject(rightWall);
         // Ceiling creation
-        GameObject ceiling = new GameObject(
+        KindedGameObject ceiling = new KindedGameObject(
                 Vector2.ZERO,
                 new Vector2(boardWidth, CEILING_HEIGHT),
-                null);
+                null, EntityKind.WALL);
         gameObjects().addGameObject(ceiling);
-        rightWall.setTag(RIGHT_WALL_TAG);
+        leftWall.setCollisionMatrix(collisionMatrix);
+        rightWall.setCollisionMatrix(collisionMatrix);
+        ceiling.setCollisionMatrix(collisionMatrix);
+        this.walls = new GameObject[]{leftWall, rightWall, ceiling};
     }
     /**
      * Creates and initializes a ball object for the game.
      */
     private void createBall() {
         Renderable ballImage =
-                this.imageReader.readImage(BALL_PATH, true);
+                this.assetCache.readImage(BALL_PATH, true);
         this.ballImage = ballImage;
-        Sound collisionSound = this.soundReader.readSound(BALL_SOUND_PATH);
+        Sound collisionSound = this.assetCache.readSound(BALL_SOUND_PATH);
         this.ball = new Ball(Vector2.ZERO, BALL_DIM,
                 ballImage, collisionSound,this);
         // create random bool value, if true, velocity will be positive,
         // if false, velocity will be negative (to move in some horizontal direction),
         // then creates 2D vector accordingly.
-        ball.setVelocity(new Vector2(new Random().nextBoolean() ? BALL_VELOCITY :
-                -BALL_VELOCITY, BALL_VELOCITY));
+        float ballVelocity = tuning.getBallVelocity();
+        ball.setVelocity(new Vector2(gameRandom.nextBoolean() ? ballVelocity :
+                -ballVelocity, ballVelocity));
         ball.setCenter(BALL_START_POSITION);
+        ball.setCollisionMatrix(collisionMatrix);
         this.gameObjects().addGameObject(ball);
-        ball.setTag(BALL_TAG);
+        this.activeBalls.add(ball);
     }
     /**
      * Creates and initializes a user paddle object.
      */
     private void createUserPuddle() {
         Renderable paddleImage =
-                this.imageReader.readImage(PADDLE_PATH, true);
+                this.assetCache.readImage(PADDLE_PATH, true);
         Paddle userPaddle = new Paddle(
                 Vector2.ZERO, PADDLE_DIM, paddleImage,
-                this.userInputListener, windowDimensions.x());
-        userPaddle.setTag(USER_PADDLE_TAG);
-        userPaddle.setCenter(
-                new Vector2(windowDimensions.x() / 2, (int) windowDimensions.y() - 30));
+                this.userInputListener, windowDimensions.x(), EntityKind.USER_PADDLE);
+        userPaddle.setCenter(userPaddleStartCenter());
+        userPaddle.setCollisionMatrix(collisionMatrix);
         gameObjects().addGameObject(userPaddle);
         this.gamePaddles[0] = userPaddle;
 
     }
+    /**
+     * Calculates where the user paddle starts a game.
+     * @return Center of the user paddle at the start of a game.
+     */
+    private Vector2 userPaddleStartCenter() {
+        return new Vector2(windowDimensions.x() / 2, (int) windowDimensions.y() - 30);
+    }
     /**
      * Initializes Player's lives system by setting maximum and initial lives.
      * Adds numeric and graphical displays.
@@ -299,9 +924,8 @@ public class BrickerGameManager extends GameManager {
      * Adds a Graphic lives display to game.
      */
     private void addGraphicLivesDisplay() {
-        Renderable heartImage = this.imageReader.readImage(HEART_PATH, true);
-        this.graphicLives = new GraphicLives(livesManager, HEART_START_POSITION, HEART_SIZE, heartImage,
-                this);
+        Renderable heartImage = this.assetCache.readImage(HEART_PATH, true);
+        this.graphicLives = new GraphicLives(livesManager, HEART_START_POSITION, HEART_SIZE, heartImage);
         gameObjects().addGameObject(graphicLives, Layer.BACKGROUND);
     }
 
@@ -311,16 +935,17 @@ public class BrickerGameManager extends GameManager {
      */
     public void createExtraPaddle() {
         if (!isExtraPaddleActive) {
-            Renderable paddleImage = imageReader.readImage(PADDLE_PATH, true);
+            Renderable paddleImage = assetCache.readImage(PADDLE_PATH, true);
             extraPaddle = new Paddle(
                     new Vector2(windowDimensions.x() / 2 - 50, windowDimensions.y() /2 ),
                     PADDLE_DIM,
                     paddleImage,
                     userInputListener,
-                    windowDimensions.x()
+                    windowDimensions.x(),
+                    EntityKind.EXTRA_PADDLE
             );
-            gameObjects().addGameObject(extraPaddle);
-            extraPaddle.setTag(EXTRA_PUDDLE_TAG);
+            extraPaddle.setCollisionMatrix(collisionMatrix);
+            commandBuffer.add(extraPaddle, Layer.DEFAULT);
             isExtraPaddleActive = true;
             this.extraPaddle = extraPaddle;
         }
@@ -330,64 +955,135 @@ public class BrickerGameManager extends GameManager {
      */
     private void removeExtraPaddle() {
         if (isExtraPaddleActive && extraPaddle != null) {
-            gameObjects().removeGameObject(extraPaddle,Layer.DEFAULT);
+            commandBuffer.remove(extraPaddle, Layer.DEFAULT);
             isExtraPaddleActive = false;
             extraPaddle = null;
         }
     }
     /**
      * Creates new puck ball with random velocity and orientation on the upper half of the unit circle
-     * and adds it to the game.
+     * and adds it to the game. Puck balls that left the window are reused when available.
      * @param puckPlace Initial position where puck ball will be placed.
      */
     public void createPuckBall(Vector2 puckPlace){
-        Renderable puckimage = this.imageReader.readImage(PUCK_BALL_PATH, true);
-        Sound collisionSound = this.soundReader.readSound(BALL_SOUND_PATH);
         // Randomize orientation on the upper half of the unit circle.
-        Random random = new Random();
-        double angle = random.nextDouble() * Math.PI;
-        float velX = (float)Math.cos(angle) * BALL_VELOCITY;
-        float velY = (float)Math.sin(angle) * BALL_VELOCITY;
-        PuckBall puckBall = new PuckBall(Vector2.ZERO, PUCK_BALL_DIM,
-                puckimage, collisionSound, this);
+        double angle = gameRandom.nextDouble() * Math.PI;
+        float velX = (float)Math.cos(angle) * tuning.getBallVelocity();
+        float velY = (float)Math.sin(angle) * tuning.getBallVelocity();
+        PuckBall puckBall = addPuckBall();
         puckBall.setVelocity(new Vector2(velX, velY));
         puckBall.setCenter(puckPlace);
-        puckBall.setTag(PUCK_BALL_TAG);
-        this.gameObjects().addGameObject(puckBall);
     }
+    /**
+     * Adds a puck ball to the game, reusing a puck ball that left the window when available.
+     * The caller sets its position and velocity.
+     * @return The added puck ball.
+     */
+    private PuckBall addPuckBall() {
+        PuckBall puckBall = puckBallPool.acquire();
+        if (puckBall == null) {
+            Renderable puckimage = this.assetCache.readImage(PUCK_BALL_PATH, true);
+            Sound collisionSound = this.assetCache.readSound(BALL_SOUND_PATH);
+            puckBall = new PuckBall(Vector2.ZERO, PUCK_BALL_DIM,
+                    puckimage, collisionSound, this);
+            puckBall.setCollisionMatrix(collisionMatrix);
+        }
+        this.commandBuffer.add(puckBall, Layer.DEFAULT);
+        this.activeBalls.add(puckBall);
+        return puckBall;
+    }
+    /**
+     * Removes a puck ball that left the window from the game and returns it to the pool.
+     * @param puckBall Puck ball to remove.
+     */
+    public void removePuckBall(PuckBall puckBall) {
+        if (activeBalls.remove(puckBall)) {
+            commandBuffer.remove(puckBall, Layer.DEFAULT);
+            puckBallPool.release(puckBall);
+        }
+    }
+    /**
+     * Getter for number of puck balls currently in the game.
+     * @return Live puck balls count.
+     */
+    public int getLivePuckBalls() {
+        return puckBallPool.getLiveCount();
+    }
+    /**
+     * Getter for number of puck balls waiting in the pool to be reused.
+     * @return Pooled puck balls count.
+     */
+    public int getPooledPuckBalls() {
+        return puckBallPool.getPooledCount();
+    }
+    /**
+     * Sets how many hearts can fall at once and what happens to a new heart when that many
+     * are falling. Takes effect when the game is initialized.
+     * @param capacity       Maximum number of falling hearts.
+     * @param overflowPolicy What to do with a heart created when all slots are taken.
+     */
+    public void setFallingHearts(int capacity, HeartOverflowPolicy overflowPolicy) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Heart capacity must be positive: " + capacity);
+        }
+        this.heartsCapacity = capacity;
+        this.heartOverflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Getter for number of hearts that were not created because all slots were taken.
+     * @return Dropped hearts count since the game started.
+     */
+    public int getDroppedHearts() {
+        return droppedHearts;
+    }
+
     /**
      * Creates only one extra heart in brick, with specific position and adds it to game.
-     * Heart falls downward once created.
+     * Heart falls downward once created. The heart is taken from the heart pool, and when all
+     * its slots are taken the heart overflow policy decides if it is dropped or replaces the
+     * oldest falling heart.
      * @param pos Initial position the heart will appear.
      */
     public void createExtraHeart(Vector2 pos) {
-        Renderable heartImage = this.imageReader.readImage(HEART_PATH, true);
-        for (int i = 0; i < hearts.length; i++) {
-            if (hearts[i] == null) {
-                hearts[i] = new Heart(Vector2.ZERO, HEART_DIM,
-                        heartImage, this, this.gamePaddles[0].getTag(),
-                        this.livesManager);
-                hearts[i].setTag(HEART_TAG);
-                hearts[i].setCenter(pos);
-                this.gameObjects().addGameObject(hearts[i]);
-                break;
+        if (heartPool.isFull()) {
+            if (heartOverflowPolicy == HeartOverflowPolicy.DROP_NEW) {
+                droppedHearts++;
+                return;
             }
-            this.isHeartActive = true;
+            removeHeart(heartPool.getOldest());
+        }
+        Heart heart = heartPool.acquire();
+        if (heart == null) {
+            Renderable heartImage = this.assetCache.readImage(HEART_PATH, true);
+            heart = new Heart(Vector2.ZERO, HEART_DIM,
+                    heartImage, this, EntityKind.USER_PADDLE,
+                    this.livesManager);
+            heart.setCollisionMatrix(collisionMatrix);
+            heartPool.addLive(heart);
         }
+        heart.setCenter(pos);
+        heart.setVelocity(HEART_FALL_VELOCITY);
+        this.commandBuffer.add(heart, Layer.DEFAULT);
     }
     /**
-     * Removes heart from the game and resets.
+     * Removes heart from the game and returns it to the heart pool. Removing a heart that was
+     * already removed does nothing.
      *
      * @param heartToRemove Heart object to removed.
      */
     public void removeHeart(Heart heartToRemove) {
-        for (int i = 0; i < hearts.length; i++) {
-            if (hearts[i] == heartToRemove) {
-                gameObjects().removeGameObject(hearts[i]);
-                hearts[i] = null;
-                this.isHeartActive = false;
-                break;
-            }
+        if (heartPool.release(heartToRemove)) {
+            commandBuffer.remove(heartToRemove, Layer.DEFAULT);
+        }
+    }
+
+    /**
+     * Removes all the falling hearts from the game.
+     */
+    private void removeAllHearts() {
+        while (heartPool.getLiveCount() > 0) {
+            removeHeart(heartPool.get(heartPool.getLiveCount() - 1));
         }
     }
     /**
@@ -395,10 +1091,10 @@ public class BrickerGameManager extends GameManager {
      * @param ball Ball object to update to turbo.
      */
     public void turboUpdate(Ball ball) {
-        Renderable turboImage = this.imageReader.readImage(RED_BALL_PATH, true);
+        Renderable turboImage = this.assetCache.readImage(RED_BALL_PATH, true);
         ball.setOriginalRenderable(this.ballImage);
-        ball.setOriginalVelocity(ORIGINAL_VELOCITY);
-        ball.setVelocity(ball.getOriginalVelocity().mult(VELOCITY_FACTOR));
+        ball.setOriginalVelocity(new Vector2(tuning.getBallVelocity(), tuning.getBallVelocity()));
+        ball.setVelocity(ball.getOriginalVelocity().mult(tuning.getVelocityFactor()));
         ball.renderer().setRenderable(turboImage);
         ball.setTurboBall();
     }
@@ -406,55 +1102,202 @@ public class BrickerGameManager extends GameManager {
     // TO COMBINE THE EXTENSION AND THE BASIC - CREATE BRICK FUNCTION.
     /**
      * Creates and initializes a block of bricks in the game based on the given
-     * dimensions. Determine each brick strategy by creating strategies
-     * from strategies factory.
+     * dimensions. Determine each brick strategy by rolling strategy ids
+     * from strategies factory. Bricks are stored in a brick field, and game objects are
+     * created only for the bricks inside the window.
      * @param brick_dimensions Vector2, x num of rows and
      *                       y num of columns for brick block.
+     * @param boardRandom    Random stream used to roll the bricks' strategies.
      */
-    private void createBricks(Vector2 brick_dimensions) {
-        this.brickCounter = brick_dimensions.x() * brick_dimensions.y();
-        Renderable brickImage = this.imageReader.readImage(BRICK_PATH, false);
+    private void createBricks(Vector2 brick_dimensions, SplittableRandom boardRandom) {
+        int columns = (int) brick_dimensions.x();
+        int rows = (int) brick_dimensions.y();
         float bricksWidthSum = this.windowDimensions.x() - (WALLS_WIDTH * 6) - brick_dimensions.x();
         float brickWidth = (bricksWidthSum) / brick_dimensions.x();
-        for (int i = 0; i < brick_dimensions.y(); i++) {
-            for (int j = 0; j < brick_dimensions.x(); j++) {
+        BrickerCollisionStrategyFactory brickerCollisionStrategyFactory =
+                new BrickerCollisionStrategyFactory(this, boardRandom);
+        this.strategyFactory = brickerCollisionStrategyFactory;
+        this.brickField = new BrickField(columns * rows);
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
                 float xPosition = j * (brickWidth + BRICK_CONST) + WALLS_WIDTH;
                 float yPosition = i * (BRICK_HEIGHT + BRICK_CONST) + WALLS_WIDTH;
-                float x = brickWidth / 2;
-                float y = (float) BRICK_HEIGHT / 2;
-                Vector2 brickCenter = new Vector2(xPosition + x, yPosition + y);
                 // choosing strategies
-                BrickerCollisionStrategyFactory brickerCollisionStrategyFactory =
-                        new BrickerCollisionStrategyFactory(this);
-                CollisionStrategy chosenStrategy =
-                        brickerCollisionStrategyFactory.createStrategy();
-                Brick brick = new Brick(Vector2.ZERO, new Vector2(brickWidth, BRICK_HEIGHT),
-                        brickImage, chosenStrategy,this);
-                brick.setCenter(brickCenter);
-                this.gameObjects().addGameObject(brick);
-                brick.setTag(BRICK_TAG);
+                this.brickField.add(xPosition, yPosition, brickWidth, BRICK_HEIGHT,
+                        brickerCollisionStrategyFactory.rollStrategyId());
             }
         }
+        this.brickCounter = this.brickField.size();
+        this.brickGrid = createBrickGrid(WALLS_WIDTH, WALLS_WIDTH, brickWidth + BRICK_CONST,
+                BRICK_HEIGHT + BRICK_CONST, columns, rows);
+        createVisibleBricks(brickerCollisionStrategyFactory);
+    }
+
+    /**
+     * Creates the bricks of an endless game: the same layout as createBricks, limited to the
+     * rows inside the window, with the rows' strategies rolled by a background BrickRowSource.
+     * @param brick_dimensions Vector2, x num of columns and y num of rows.
+     * @param boardRandom      Random stream used to roll the bricks' strategies.
+     */
+    private void createEndlessBricks(Vector2 brick_dimensions, SplittableRandom boardRandom) {
+        int columns = (int) brick_dimensions.x();
+        float rowHeight = BRICK_HEIGHT + BRICK_CONST;
+        int visibleRows = (int) ((this.windowDimensions.y() - WALLS_WIDTH) / rowHeight);
+        int rows = Math.max(1, Math.min((int) brick_dimensions.y(), visibleRows));
+        float bricksWidthSum = this.windowDimensions.x() - (WALLS_WIDTH * 6) - brick_dimensions.x();
+        float brickWidth = (bricksWidthSum) / brick_dimensions.x();
+        BrickRowSource rowSource = new BrickRowSource(columns, tuning.getStrategyRollRange(),
+                boardRandom.split(), rows);
+        this.brickField = new BrickField(columns * rows);
+        for (int i = 0; i < rows; i++) {
+            byte[] row = rowSource.nextRow();
+            for (int j = 0; j < columns; j++) {
+                this.brickField.add(j * (brickWidth + BRICK_CONST) + WALLS_WIDTH,
+                        i * rowHeight + WALLS_WIDTH, brickWidth, BRICK_HEIGHT, row[j]);
+            }
+            rowSource.recycle(row);
+        }
+        this.brickCounter = this.brickField.size();
+        this.brickGrid = createBrickGrid(WALLS_WIDTH, WALLS_WIDTH, brickWidth + BRICK_CONST,
+                rowHeight, columns, rows);
+        this.strategyFactory = new BrickerCollisionStrategyFactory(this, boardRandom);
+        this.endlessBoard = new EndlessBoard(this, this.brickField, this.brickGrid,
+                this.strategyFactory, rowSource, columns, rowHeight);
+    }
+
+    /**
+     * Loads the bricks of the game from a binary level file instead of laying them out on a
+     * grid. The file is read again for every game, since the brick field is changed while
+     * playing. Bricks keep the strategy ids stored in the file.
+     * @param levelPath   Level file to load.
+     * @param boardRandom Random stream used by the strategies factory.
+     */
+    private void loadBricks(Path levelPath, SplittableRandom boardRandom) {
+        LevelFile level;
+        try {
+            level = LevelFile.load(levelPath);
+            if (this.inputRecorder != null) {
+                // identifies the level in the input log, so replays can't use another one
+                this.levelChecksum = InputLog.checksum(levelPath);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.brickField = level.getBrickField();
+        this.brickCounter = this.brickField.size();
+        if (level.hasGrid()) {
+            float maxX = level.getGridOriginX();
+            float maxY = level.getGridOriginY();
+            for (int i = 0; i < brickField.size(); i++) {
+                maxX = Math.max(maxX, brickField.getX(i) + brickField.getWidth(i));
+                maxY = Math.max(maxY, brickField.getY(i) + brickField.getHeight(i));
+            }
+            int columns = (int) Math.ceil((maxX - level.getGridOriginX()) / level.getCellWidth());
+            int rows = (int) Math.ceil((maxY - level.getGridOriginY()) / level.getCellHeight());
+            this.brickGrid = createBrickGrid(level.getGridOriginX(), level.getGridOriginY(),
+                    level.getCellWidth(), level.getCellHeight(), columns, rows);
+        } else {
+            // with no grid every brick is kept in the grid's general list
+            this.brickGrid = new BrickGrid(0, 0, 1, 1, 0, 0);
+        }
+        this.strategyFactory = new BrickerCollisionStrategyFactory(this, boardRandom);
+        createVisibleBricks(this.strategyFactory);
+    }
+
+    /**
+     * Creates the brick grid of the game. Rows below the window are never indexed, since
+     * no ball can reach them.
+     * @param originX    X of the top-left corner of the first cell.
+     * @param originY    Y of the top-left corner of the first cell.
+     * @param cellWidth  Horizontal distance between neighbouring bricks' corners.
+     * @param cellHeight Vertical distance between neighbouring bricks' corners.
+     * @param columns    Number of columns.
+     * @param rows       Number of rows.
+     * @return The brick grid.
+     */
+    private BrickGrid createBrickGrid(float originX, float originY, float cellWidth,
+                                      float cellHeight, int columns, int rows) {
+        int visibleRows = (int) Math.ceil((this.windowDimensions.y() - originY) / cellHeight);
+        return new BrickGrid(originX, originY, cellWidth, cellHeight, columns,
+                Math.max(0, Math.min(rows, visibleRows)));
+    }
+
+    /**
+     * Creates brick game objects for the alive bricks of the brick field that are inside
+     * the window, and indexes them in the brick grid. The bricks are kept by field index for
+     * the whole session, so that restartGame and restoreSnapshot can reuse them.
+     * @param brickerCollisionStrategyFactory Factory turning strategy ids into strategies.
+     */
+    private void createVisibleBricks(BrickerCollisionStrategyFactory brickerCollisionStrategyFactory) {
+        this.fieldBricks = new Brick[brickField.size()];
+        for (int i = 0; i < brickField.size(); i++) {
+            if (brickField.isAlive(i) &&
+                    brickField.overlaps(i, ZERO, ZERO, windowDimensions.x(), windowDimensions.y())) {
+                this.fieldBricks[i] = addFieldBrick(i, brickerCollisionStrategyFactory);
+            }
+        }
+    }
+
+    /**
+     * Creates the brick game object of a brick field brick, draws it into the brick layer and
+     * indexes it in the brick grid.
+     * @param index                           Brick field index of the brick.
+     * @param brickerCollisionStrategyFactory Factory turning strategy ids into strategies.
+     * @return The new brick.
+     */
+    Brick addFieldBrick(int index, BrickerCollisionStrategyFactory brickerCollisionStrategyFactory) {
+        return addFieldBrick(index,
+                brickerCollisionStrategyFactory.createStrategy(brickField.getStrategyId(index)));
+    }
+
+    /**
+     * Creates the brick game object of a brick field brick with a given strategy, draws it
+     * into the brick layer and indexes it in the brick grid. Bricks are not added to the
+     * game: the brick layer draws them and the brick grid tests them against balls.
+     * @param index          Brick field index of the brick.
+     * @param chosenStrategy Strategy executed when the brick is hit.
+     * @return The new brick.
+     */
+    private Brick addFieldBrick(int index, CollisionStrategy chosenStrategy) {
+        Renderable brickImage = this.assetCache.readImage(BRICK_PATH, false);
+        Brick brick = new Brick(new Vector2(brickField.getX(index), brickField.getY(index)),
+                new Vector2(brickField.getWidth(index), brickField.getHeight(index)),
+                brickImage, chosenStrategy, this);
+        brick.setFieldIndex(index);
+        this.brickLayer.drawBrick(brick);
+        this.brickGrid.add(brick);
+        return brick;
     }
 
     // THESE NEXT FUNCTIONS ARE FOR USED BY EXTERNAL CLASSES
     /**
      * Adds object to the game, by adding it to it's layer and the general game object list.
+     * The object is added when the current frame ends.
      * @param obj Instance of game object.
      * @param layer Object's layer
      */
     public void addOutsideGameObject(GameObject obj, int layer){
-        gameObjects().addGameObject(obj, layer);
+        commandBuffer.add(obj, layer);
     }
     /**
-     * Delete object from the game, by removing
-     * it from its layer and the general game object list.
+     * Delete object from the game, by removing it from its layer. The object is removed from
+     * the game when the current frame ends, but a brick stops being hit and is erased from the
+     * brick layer immediately.
      * @param obj Instance of game object.
      * @param layer Object's layer
      */
     public void deleteGameObject(GameObject obj, int layer) {
-        gameObjects().removeGameObject(obj, layer);
-        gameObjects().removeGameObject(obj);
+        if (obj instanceof Brick) {
+            Brick brick = (Brick) obj;
+            brickGrid.remove(brick);
+            if (brick.getFieldIndex() >= 0) {
+                brickField.kill(brick.getFieldIndex());
+            }
+            // bricks are drawn by the brick layer, not added to the game
+            brickLayer.eraseBrick(brick, brickGrid);
+            return;
+        }
+        commandBuffer.remove(obj, layer);
     }
 
     /**
@@ -464,7 +1307,7 @@ public class BrickerGameManager extends GameManager {
      *         that it's out of window. otherwise false.
      */
     public boolean isBallOutOfWindow(PuckBall puckBall) {
-        return puckBall.getCenter().y() > windowDimensions.y();
+        return centerY(puckBall) > windowDimensions.y();
     }
 
     /**
@@ -474,28 +1317,319 @@ public class BrickerGameManager extends GameManager {
      */
     public void decrementBrickCounter() {
         brickCounter--;
-        if (brickCounter <= 0) {
+        // endless games never run out of bricks
+        if (brickCounter <= 0 && endlessBoard == null) {
             handleWinCondition(); //handle win condition
         }
     }
+
+    // SNAPSHOTS
+    /**
+     * Saves the state of the current game into a compact binary snapshot: balls and puck balls
+     * (including turbo state), paddles, falling hearts, lives, and which bricks of the brick
+     * field are alive, with their strategies. The gameplay random stream is stored as its seed and number of draws, so
+     * saving does not change the game, and a restored game continues the same way as the
+     * saved one.
+     * Endless games can't be saved.
+     * @return The snapshot.
+     */
+    public byte[] saveSnapshot() {
+        if (endlessBoard != null) {
+            throw new IllegalStateException("Snapshots of endless games are not supported");
+        }
+        // the snapshot holds simulated positions, not the ones drawn
+        renderInterpolator.restore();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeInt(brickField.size());
+            out.writeLong(gameRandom.getSeed());
+            out.writeLong(gameRandom.getDraws());
+            out.writeDouble(timestep.getAccumulated());
+            out.writeFloat(brickCounter);
+            out.writeInt(livesManager.getCurLives());
+            out.writeInt(livesManager.getMaxLives());
+            writeBallState(out, ball);
+            // every active ball but the main ball is a puck ball
+            out.writeInt(activeBalls.size() - 1);
+            for (Ball activeBall : activeBalls) {
+                if (activeBall instanceof PuckBall) {
+                    writeBallState(out, activeBall);
+                }
+            }
+            writeCenter(out, gamePaddles[0]);
+            out.writeBoolean(extraPaddle != null);
+            if (extraPaddle != null) {
+                writeCenter(out, extraPaddle);
+                out.writeInt(extraPaddle.getExtraHitcount());
+            }
+            out.writeInt(heartPool.getLiveCount());
+            for (int i = 0; i < heartPool.getLiveCount(); i++) {
+                writeCenter(out, heartPool.get(i));
+            }
+            writeBricks(out);
+        } catch (IOException e) {
+            // never thrown when writing to memory
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Writes the state of every brick of the brick field: alive or destroyed, and its strategy.
+     * An alive double strategy brick that has a brick game object also gets its rolled
+     * behaviors, so it's restored with the same ones.
+     * @param out Stream to write to.
+     * @throws IOException If writing fails.
+     */
+    private void writeBricks(DataOutputStream out) throws IOException {
+        for (int i = 0; i < brickField.size(); i++) {
+            boolean isAlive = brickField.isAlive(i);
+            out.writeBoolean(isAlive);
+            out.writeByte(brickField.getStrategyId(i));
+            if (isAlive &&
+                    brickField.getStrategyId(i) == BrickerCollisionStrategyFactory.DOUBLE_STRATEGY) {
+                Brick brick = fieldBricks[i];
+                if (brick == null) {
+                    out.writeByte(UNRESOLVED_BEHAVIORS);
+                    continue;
+                }
+                CollisionStrategy[] behaviors =
+                        ((DoubleCollisionStrategy) brick.getCollisionStrategy()).getBehaviors();
+                out.writeByte(behaviors.length);
+                for (CollisionStrategy behavior : behaviors) {
+                    out.writeByte(strategyFactory.behaviorId(behavior));
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the position, velocity and turbo state of a ball.
+     * @param out  Stream to write to.
+     * @param ball Ball to write.
+     * @throws IOException If writing fails.
+     */
+    private static void writeBallState(DataOutputStream out, Ball ball) throws IOException {
+        writeCenter(out, ball);
+        out.writeFloat(ball.getVelocity().x());
+        out.writeFloat(ball.getVelocity().y());
+        out.writeBoolean(ball.isTurboBall());
+        out.writeInt(ball.getCollisionCounter());
+    }
+
+    /**
+     * Writes the center of a game object.
+     * @param out Stream to write to.
+     * @param obj Game object to write.
+     * @throws IOException If writing fails.
+     */
+    private static void writeCenter(DataOutputStream out, GameObject obj) throws IOException {
+        out.writeFloat(centerX(obj));
+        out.writeFloat(centerY(obj));
+    }
+
+    /**
+     * Restores a snapshot saved by saveSnapshot into the current game. The ball, the paddles,
+     * the lives, the pooled puck balls, the pooled hearts and the bricks are reused: the
+     * snapshot only switches bricks of the game's brick field on and off, so the whole board
+     * comes back when the game is restarted. Must be called between frames, not from an
+     * object's update.
+     * @param snapshot Snapshot to restore.
+     * @throws IllegalArgumentException If the snapshot is not a snapshot of the current
+     *                                  version, or was saved on a different board.
+     */
+    public void restoreSnapshot(byte[] snapshot) {
+        if (endlessBoard != null) {
+            throw new IllegalStateException("Snapshots of endless games are not supported");
+        }
+        ByteBuffer in = ByteBuffer.wrap(snapshot);
+        if (snapshot.length < 3 * Integer.BYTES || in.getInt() != SNAPSHOT_MAGIC) {
+            throw new IllegalArgumentException("Not a game snapshot");
+        }
+        int version = in.getInt();
+        if (version != SNAPSHOT_VERSION) {
+            throw new IllegalArgumentException("Unsupported snapshot version " + version);
+        }
+        int fieldSize = in.getInt();
+        if (fieldSize != brickField.size()) {
+            throw new IllegalArgumentException("Snapshot of a board with " + fieldSize +
+                    " bricks, not " + brickField.size());
+        }
+        this.renderInterpolator.restore();
+        this.renderInterpolator.clear();
+        this.gameRandom = GameRandom.restore(in.getLong(), in.getLong());
+        this.timestep.setAccumulated(in.getDouble());
+        this.brickCounter = in.getFloat();
+        int curLives = in.getInt();
+        livesManager.setLives(curLives, in.getInt());
+        readBallState(in, ball);
+        for (int i = activeBalls.size() - 1; i >= 0; i--) {
+            if (activeBalls.get(i) instanceof PuckBall) {
+                removePuckBall((PuckBall) activeBalls.get(i));
+            }
+        }
+        int puckBallsCount = in.getInt();
+        for (int i = 0; i < puckBallsCount; i++) {
+            readBallState(in, addPuckBall());
+        }
+        gamePaddles[0].setCenter(readVector(in));
+        removeExtraPaddle();
+        if (in.get() != 0) {
+            createExtraPaddle();
+            extraPaddle.setCenter(readVector(in));
+            extraPaddle.setExtraHitcount(in.getInt());
+        }
+        removeAllHearts();
+        int heartsCount = in.getInt();
+        for (int i = 0; i < heartsCount; i++) {
+            createExtraHeart(readVector(in));
+        }
+        readBricks(in);
+        this.isGameWon = false;
+        this.isGameLost = false;
+        this.commandBuffer.apply(gameObjects());
+    }
+
+    /**
+     * Sets the bricks of the brick field to their state in a snapshot: alive or destroyed,
+     * with their strategies. The brick game objects of the session are reused, and the brick
+     * layer is drawn again.
+     * @param in Snapshot positioned at the bricks.
+     */
+    private void readBricks(ByteBuffer in) {
+        for (int i = 0; i < brickField.size(); i++) {
+            boolean isAlive = in.get() != 0;
+            int strategyId = in.get();
+            CollisionStrategy strategy = null;
+            if (isAlive && strategyId == BrickerCollisionStrategyFactory.DOUBLE_STRATEGY) {
+                int behaviorsCount = in.get();
+                if (behaviorsCount != UNRESOLVED_BEHAVIORS) {
+                    int[] behaviorIds = new int[behaviorsCount];
+                    for (int j = 0; j < behaviorsCount; j++) {
+                        behaviorIds[j] = in.get();
+                    }
+                    strategy = strategyFactory.createDoubleStrategy(behaviorIds);
+                }
+            }
+            boolean wasAlive = brickField.isAlive(i);
+            brickField.set(i, brickField.getX(i), brickField.getY(i), brickField.getWidth(i),
+                    brickField.getHeight(i), strategyId);
+            if (!isAlive) {
+                brickField.kill(i);
+            }
+            Brick brick = fieldBricks[i];
+            if (brick == null) {
+                continue;
+            }
+            if (isAlive) {
+                brick.setCollisionStrategy(
+                        strategy != null ? strategy : strategyFactory.createStrategy(strategyId));
+                if (!wasAlive) {
+                    brickGrid.add(brick);
+                }
+            } else if (wasAlive) {
+                brickGrid.remove(brick);
+            }
+        }
+        redrawBrickLayer();
+    }
+
+    /**
+     * Reads the position, velocity and turbo state of a ball. A turbo ball gets the turbo
+     * image and remembers the regular image and velocity, like in turboUpdate.
+     * @param in   Snapshot positioned at the ball.
+     * @param ball Ball to restore.
+     */
+    private void readBallState(ByteBuffer in, Ball ball) {
+        ball.setCenter(readVector(in));
+        ball.transform().setVelocity(in.getFloat(), in.getFloat());
+        boolean isTurboBall = in.get() != 0;
+        int collisionCounter = in.getInt();
+        if (isTurboBall && !ball.isTurboBall()) {
+            ball.setOriginalRenderable(this.ballImage);
+            ball.setOriginalVelocity(new Vector2(tuning.getBallVelocity(), tuning.getBallVelocity()));
+            ball.renderer().setRenderable(this.assetCache.readImage(RED_BALL_PATH, true));
+        } else if (!isTurboBall && ball.isTurboBall()) {
+            ball.renderer().setRenderable(this.ballImage);
+        }
+        ball.setTurboState(isTurboBall, collisionCounter);
+    }
+
+    /**
+     * Reads a vector of two floats.
+     * @param in Snapshot positioned at the vector.
+     * @return The vector.
+     */
+    private static Vector2 readVector(ByteBuffer in) {
+        float x = in.getFloat();
+        return new Vector2(x, in.getFloat());
+    }
+
     // MAIN FUNCTION
     /**
      * Main method of brick game, initializes game with command line arguments
      * of in a default way with constants rows and cols.
      * @param args Command arguments of rows and columns
-     *            for brick grid.
+     *            for brick grid, optionally with --seed and a number to make the game
+     *            reproducible, and --stats and a path to write frame statistics as CSV.
+     * @throws IOException If the statistics file can't be created.
      */
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
+        long seed = System.nanoTime();
+        String statsPath = null;
+        String levelPath = null;
+        boolean isEndless = false;
+        String recordPath = null;
+        String[] dimensionArgs = new String[args.length];
+        int dimensionArgsCount = 0;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals(SEED_OPTION) && i + 1 < args.length) {
+                seed = Long.parseLong(args[++i]);
+            } else if (args[i].equals(STATS_OPTION) && i + 1 < args.length) {
+                statsPath = args[++i];
+            } else if (args[i].equals(LEVEL_OPTION) && i + 1 < args.length) {
+                levelPath = args[++i];
+            } else if (args[i].equals(ENDLESS_OPTION)) {
+                isEndless = true;
+            } else if (args[i].equals(RECORD_OPTION) && i + 1 < args.length) {
+                recordPath = args[++i];
+            } else {
+                dimensionArgs[dimensionArgsCount++] = args[i];
+            }
+        }
         Vector2 brick_dim;
-        if (args.length == 2) {
-            int cols = Integer.parseInt(args[0]);
-            int rows = Integer.parseInt(args[1]);
+        if (dimensionArgsCount == 2) {
+            int cols = Integer.parseInt(dimensionArgs[0]);
+            int rows = Integer.parseInt(dimensionArgs[1]);
             brick_dim = new Vector2(rows, cols);
         } else {
             brick_dim = new Vector2(ROWS, COLS);
         }
         BrickerGameManager BrickGame = new BrickerGameManager(WINDOW_NAME,WINDOW_DIMENSIONS,
-                brick_dim);
+                brick_dim, seed);
+        BrickGame.setEndless(isEndless);
+        if (levelPath != null) {
+            BrickGame.setLevel(Paths.get(levelPath));
+        }
+        if (statsPath != null) {
+            FrameStats stats = BrickGame.getFrameStats();
+            stats.setCsvOutput(Paths.get(statsPath), STATS_INTERVAL_NANOS);
+            BrickGame.addExitAction(stats::writeCsv);
+        }
+        if (recordPath != null) {
+            Path inputPath = Paths.get(recordPath);
+            BrickGame.setInputRecorder(new InputRecorder());
+            BrickGame.addExitAction(() -> {
+                try {
+                    BrickGame.getRecordedInput().write(inputPath);
+                } catch (IOException e) {
+                    System.err.println("Failed to write input log: " + e.getMessage());
+                }
+            });
+        }
         BrickGame.run();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,152 @@
+package bricker.main;
+
+import bricker.brick_strategies.BrickerCollisionStrategyFactory;
+import bricker.gameobjects.Brick;
+
+/**
+ * This class runs the bricks of an endless game. The board keeps a fixed number of rows in a
+ * ring of brick field slots: when the lowest row is cleared its slot is dropped, the other
+ * rows slide down by one row, and a new row from a BrickRowSource is placed at the top in the
+ * freed slot. Memory and the per-frame cost stay the same however long the session runs.
+ */
+public class EndlessBoard {
+    private final BrickerGameManager brickerGameManager;
+    private final BrickField brickField;
+    private final BrickGrid brickGrid;
+    private final BrickerCollisionStrategyFactory strategyFactory;
+    private final BrickRowSource rowSource;
+    private final int columns;
+    private final int rows;
+    private final float topRowY;
+    private final float rowHeight;
+    private final Brick[] bricks;
+    private int topSlot = 0;
+    private long rowsAdded = 0;
+
+    /**
+     * Constructor for EndlessBoard. Creates brick game objects for the whole brick field,
+     * whose bricks are laid out row by row, from the top row down.
+     * @param brickerGameManager Instance of BrickerGameManager.
+     * @param brickField         Bricks of the board, columns bricks per row.
+     * @param brickGrid          Spatial index of the board's bricks.
+     * @param strategyFactory    Factory turning strategy ids into strategies.
+     * @param rowSource          Source of the new rows' strategy ids.
+     * @param columns            Number of bricks in a row.
+     * @param rowHeight          Vertical distance between neighbouring rows.
+     */
+    public EndlessBoard(BrickerGameManager brickerGameManager, BrickField brickField,
+                        BrickGrid brickGrid, BrickerCollisionStrategyFactory strategyFactory,
+                        BrickRowSource rowSource, int columns, float rowHeight) {
+        this.brickerGameManager = brickerGameManager;
+        this.brickField = brickField;
+        this.brickGrid = brickGrid;
+        this.strategyFactory = strategyFactory;
+        this.rowSource = rowSource;
+        this.columns = columns;
+        this.rows = brickField.size() / columns;
+        this.topRowY = brickField.getY(0);
+        this.rowHeight = rowHeight;
+        this.bricks = new Brick[brickField.size()];
+        for (int i = 0; i < bricks.length; i++) {
+            bricks[i] = brickerGameManager.addFieldBrick(i, strategyFactory);
+        }
+    }
+
+    /**
+     * Replaces every cleared row at the bottom of the board with a new row at the top.
+     * Called once a frame, after the bricks were hit. The brick layer is drawn again once
+     * the rows stopped moving.
+     */
+    public void advance() {
+        boolean isSlid = false;
+        while (isSlotCleared(bottomSlot())) {
+            slideRows();
+            isSlid = true;
+        }
+        if (isSlid) {
+            brickerGameManager.redrawBrickLayer();
+        }
+    }
+
+    /**
+     * Getter for the number of rows added since the game started.
+     * @return Number of new rows.
+     */
+    public long getRowsAdded() {
+        return rowsAdded;
+    }
+
+    /**
+     * Stops generating rows. Called when the game this board belongs to ends.
+     */
+    public void close() {
+        rowSource.close();
+    }
+
+    /**
+     * Drops the cleared bottom row, moves the other rows one row down and fills the top row
+     * from the row source, reusing the dropped row's brick game objects.
+     */
+    private void slideRows() {
+        int droppedSlot = bottomSlot();
+        // from the bottom up, so each brick moves into a grid cell that was already emptied
+        for (int row = rows - 2; row >= 0; row--) {
+            int slot = (topSlot + row) % rows;
+            for (int column = 0; column < columns; column++) {
+                int index = slot * columns + column;
+                if (brickField.isAlive(index)) {
+                    moveDown(index);
+                }
+            }
+        }
+        topSlot = droppedSlot;
+        byte[] row = rowSource.nextRow();
+        for (int column = 0; column < columns; column++) {
+            int index = droppedSlot * columns + column;
+            brickField.set(index, brickField.getX(index), topRowY, brickField.getWidth(index),
+                    brickField.getHeight(index), row[column]);
+            // the slot's brick game object was destroyed with the dropped row, reuse it
+            Brick brick = bricks[index];
+            brick.transform().setTopLeftCorner(brickField.getX(index), topRowY);
+            brick.setCollisionStrategy(strategyFactory.createStrategy(row[column]));
+            brickGrid.add(brick);
+        }
+        rowSource.recycle(row);
+        rowsAdded++;
+    }
+
+    /**
+     * Moves an alive brick one row down, in the brick field, the game object and the brick grid.
+     * @param index Brick field index of the brick.
+     */
+    private void moveDown(int index) {
+        Brick brick = bricks[index];
+        float y = brickField.getY(index) + rowHeight;
+        brickGrid.remove(brick);
+        brickField.setY(index, y);
+        brick.transform().setTopLeftCorner(brickField.getX(index), y);
+        brickGrid.add(brick);
+    }
+
+    /**
+     * Checks if all the bricks of a slot were destroyed.
+     * @param slot Slot of the row.
+     * @return True if the row is cleared.
+     */
+    private boolean isSlotCleared(int slot) {
+        for (int column = 0; column < columns; column++) {
+            if (brickField.isAlive(slot * columns + column)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Calculates the slot of the lowest row.
+     * @return Slot of the bottom row.
+     */
+    private int bottomSlot() {
+        return (topSlot + rows - 1) % rows;
+    }
+}
@@ -0,0 +1,75 @@
+package bricker.main;
+
+/**
+ * This class turns variable frame times into a whole number of fixed simulation steps. Frame
+ * times are added to an accumulator, every full step in it is run, and the remainder carries
+ * over to the next frame. The fraction of a step left over tells how far the rendered frame
+ * is between the last two simulated states.
+ */
+public class FixedTimestep {
+    private final float step;
+    private final float maxFrameTime;
+    private double accumulator = 0;
+
+    /**
+     * Constructor for FixedTimestep.
+     * @param step         Simulated time of one step, in seconds.
+     * @param maxFrameTime Longest frame time accepted, in seconds. Longer frames are clamped,
+     *                     so a stalled frame doesn't make the next one run endless steps.
+     */
+    public FixedTimestep(float step, float maxFrameTime) {
+        this.step = step;
+        this.maxFrameTime = maxFrameTime;
+    }
+
+    /**
+     * Adds a frame's time to the accumulator and takes out the full steps in it.
+     * @param deltaTime Time the frame took, in seconds.
+     * @return Number of steps to simulate this frame.
+     */
+    public int advance(float deltaTime) {
+        accumulator += Math.min(Math.max(deltaTime, 0), maxFrameTime);
+        int steps = (int) (accumulator / step);
+        accumulator -= steps * (double) step;
+        return steps;
+    }
+
+    /**
+     * Getter for the simulated time of one step.
+     * @return Step in seconds.
+     */
+    public float getStep() {
+        return step;
+    }
+
+    /**
+     * Calculates how far the time left in the accumulator is into the next step.
+     * @return Fraction in [0,1).
+     */
+    public float getAlpha() {
+        return (float) (accumulator / step);
+    }
+
+    /**
+     * Getter for the time in the accumulator, not simulated yet.
+     * @return Accumulated time, in seconds.
+     */
+    public double getAccumulated() {
+        return accumulator;
+    }
+
+    /**
+     * Sets the time in the accumulator. Used when restoring a game snapshot.
+     * @param accumulated Accumulated time, in seconds.
+     */
+    public void setAccumulated(double accumulated) {
+        this.accumulator = accumulated;
+    }
+
+    /**
+     * Empties the accumulator.
+     */
+    public void reset() {
+        accumulator = 0;
+    }
+}
@@ -0,0 +1,102 @@
+package bricker.main;
+
+import java.util.Arrays;
+
+/**
+ * This class is a low-overhead histogram of non-negative long values (e.g. nanoseconds).
+ * Values are counted in log-linear buckets: exact below 16, and 16 buckets per power of two
+ * above it, so percentiles are accurate to about 6%. Recording never allocates.
+ */
+public class FrameHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LONG_BITS = 64;
+    private static final int HIGHEST_BIT = LONG_BITS - 1;
+    private static final int BUCKETS = (LONG_BITS - SUB_BUCKET_BITS) * SUB_BUCKETS;
+    private static final double PERCENT = 100;
+    private final long[] counts = new long[BUCKETS];
+    private long totalCount = 0;
+    private long max = 0;
+
+    /**
+     * Records a value. Negative values are recorded as zero.
+     * @param value Value to record.
+     */
+    public void record(long value) {
+        long clamped = Math.max(value, 0);
+        counts[bucketOf(clamped)]++;
+        totalCount++;
+        max = Math.max(max, clamped);
+    }
+
+    /**
+     * Calculates a percentile of the recorded values.
+     * @param percentile Percentile in the range [0,100].
+     * @return Highest value of the bucket holding the percentile, capped at the maximum,
+     *         or zero if nothing was recorded.
+     */
+    public long percentile(double percentile) {
+        long target = Math.max(1, (long) Math.ceil(percentile / PERCENT * totalCount));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(highestValueOf(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Getter for the largest recorded value.
+     * @return Maximum value, or zero if nothing was recorded.
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Getter for number of recorded values.
+     * @return Values count.
+     */
+    public long getCount() {
+        return totalCount;
+    }
+
+    /**
+     * Forgets all recorded values.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        max = 0;
+    }
+
+    /**
+     * Finds the bucket a value is counted in.
+     * @param value Non-negative value.
+     * @return Bucket index.
+     */
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = HIGHEST_BIT - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int top = (int) (value >>> shift);
+        return (shift + 1) * SUB_BUCKETS + top - SUB_BUCKETS;
+    }
+
+    /**
+     * Finds the highest value counted in a bucket.
+     * @param bucket Bucket index.
+     * @return Highest value of the bucket.
+     */
+    private static long highestValueOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long top = bucket % SUB_BUCKETS + SUB_BUCKETS;
+        return ((top + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,204 @@
+package bricker.main;
+
+import com.sun.management.ThreadMXBean;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This class collects per-frame timings and counts of BrickerGameManager into histograms, and
+ * can write their p50/p99/max to a CSV file at a fixed interval and when the game exits.
+ * Each CSV row covers the frames since the previous row.
+ */
+public class FrameStats {
+    /** Wall time of the whole update. */
+    public static final int FRAME_NANOS = 0;
+    /** Time in the engine's update: movement, physics and engine collisions. */
+    public static final int ENGINE_NANOS = 1;
+    /** Time in the brick grid collision pass. */
+    public static final int BRICK_COLLISIONS_NANOS = 2;
+    /** Time in the hearts, extra paddle and lives checks. */
+    public static final int GAME_CHECKS_NANOS = 3;
+    /** Time in collision strategy callbacks (included in the two collision timings above). */
+    public static final int STRATEGY_NANOS = 4;
+    /** Ball collisions in the frame. */
+    public static final int COLLISIONS = 5;
+    /** Balls and puck balls in the game. */
+    public static final int LIVE_BALLS = 6;
+    /** Bricks not yet destroyed. */
+    public static final int LIVE_BRICKS = 7;
+    /** Bytes allocated by the game thread during the frame, if the JVM can count them. */
+    public static final int ALLOCATED_BYTES = 8;
+    /** Object pair tests skipped in the frame because the collision matrix ruled them out. */
+    public static final int SKIPPED_PAIR_TESTS = 9;
+    private static final String[] METRIC_NAMES = {"frame_ns", "engine_ns", "brick_collisions_ns",
+            "game_checks_ns", "strategy_ns", "collisions", "live_balls", "live_bricks",
+            "allocated_bytes", "skipped_pair_tests"};
+    private static final long UNSUPPORTED = -1;
+    private static final String CSV_HEADER = "time_ms,metric,frames,p50,p99,max";
+    private static final double MEDIAN = 50;
+    private static final double P99 = 99;
+    private static final long NANOS_IN_MILLI = 1_000_000;
+    private final FrameHistogram[] histograms = new FrameHistogram[METRIC_NAMES.length];
+    private final long startNanos = System.nanoTime();
+    private final ThreadMXBean threadBean = allocationCountingBean();
+    private long frameStartNanos;
+    private long frameStartBytes;
+    private long frameStrategyNanos = 0;
+    private int frameCollisions = 0;
+    private Path csvPath = null;
+    private long intervalNanos;
+    private long lastWriteNanos;
+
+    /**
+     * Constructor for FrameStats.
+     */
+    public FrameStats() {
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new FrameHistogram();
+        }
+    }
+
+    /**
+     * Starts writing the statistics to a CSV file. The file is replaced, and a row per metric
+     * is appended every interval and on writeCsv.
+     * @param csvPath       File to write.
+     * @param intervalNanos Interval between writes, in nanoseconds.
+     * @throws IOException If the file can't be created.
+     */
+    public void setCsvOutput(Path csvPath, long intervalNanos) throws IOException {
+        Files.write(csvPath, (CSV_HEADER + System.lineSeparator()).getBytes(StandardCharsets.UTF_8));
+        this.csvPath = csvPath;
+        this.intervalNanos = intervalNanos;
+        this.lastWriteNanos = System.nanoTime();
+    }
+
+    /**
+     * Marks the start of a frame.
+     * @return Current time in nanoseconds, to time the frame's first phase with.
+     */
+    public long beginFrame() {
+        frameStartBytes = allocatedBytes();
+        frameStartNanos = System.nanoTime();
+        frameStrategyNanos = 0;
+        frameCollisions = 0;
+        return frameStartNanos;
+    }
+
+    /**
+     * Records the time of a phase of the frame, measured from a given start.
+     * @param metric     One of the *_NANOS metrics.
+     * @param startNanos Time the phase started.
+     * @return Current time in nanoseconds, to time the next phase with.
+     */
+    public long recordPhase(int metric, long startNanos) {
+        long now = System.nanoTime();
+        histograms[metric].record(now - startNanos);
+        return now;
+    }
+
+    /**
+     * Adds time spent in a collision strategy callback to the current frame.
+     * @param nanos Time spent, in nanoseconds.
+     */
+    public void addStrategyNanos(long nanos) {
+        frameStrategyNanos += nanos;
+    }
+
+    /**
+     * Counts a ball collision in the current frame.
+     */
+    public void addCollision() {
+        frameCollisions++;
+    }
+
+    /**
+     * Marks the end of a frame, records its totals and writes a CSV row if the interval
+     * passed.
+     * @param liveBalls        Balls and puck balls in the game.
+     * @param liveBricks       Bricks not yet destroyed.
+     * @param skippedPairTests Pair tests the collision matrix skipped during the frame.
+     */
+    public void endFrame(int liveBalls, int liveBricks, int skippedPairTests) {
+        long now = System.nanoTime();
+        histograms[FRAME_NANOS].record(now - frameStartNanos);
+        histograms[STRATEGY_NANOS].record(frameStrategyNanos);
+        histograms[COLLISIONS].record(frameCollisions);
+        histograms[LIVE_BALLS].record(liveBalls);
+        histograms[LIVE_BRICKS].record(liveBricks);
+        histograms[SKIPPED_PAIR_TESTS].record(skippedPairTests);
+        if (frameStartBytes != UNSUPPORTED) {
+            histograms[ALLOCATED_BYTES].record(allocatedBytes() - frameStartBytes);
+        }
+        if (csvPath != null && now - lastWriteNanos >= intervalNanos) {
+            writeCsv();
+        }
+    }
+
+    /**
+     * Finds a thread bean that can count allocated bytes per thread.
+     * @return The bean, or null if this JVM can't count allocations.
+     */
+    private static ThreadMXBean allocationCountingBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof ThreadMXBean &&
+                ((ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            ((ThreadMXBean) bean).setThreadAllocatedMemoryEnabled(true);
+            return (ThreadMXBean) bean;
+        }
+        return null;
+    }
+
+    /**
+     * Reads the number of bytes the current thread allocated so far.
+     * @return Allocated bytes, or -1 if this JVM can't count allocations.
+     */
+    private long allocatedBytes() {
+        if (threadBean == null) {
+            return UNSUPPORTED;
+        }
+        return threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Getter for a metric's histogram.
+     * @param metric One of the metric constants.
+     * @return Histogram of the metric since the last CSV row.
+     */
+    public FrameHistogram getHistogram(int metric) {
+        return histograms[metric];
+    }
+
+    /**
+     * Appends a row per metric to the CSV file, if one is set, and starts a new interval.
+     * Frames with no CSV file set are never reset. Write failures are reported and stop
+     * further writes, so statistics never break the game. The histograms are not
+     * synchronized, so it must be called on the thread that records the frames.
+     */
+    public void writeCsv() {
+        if (csvPath == null || histograms[FRAME_NANOS].getCount() == 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        long timeMillis = (now - startNanos) / NANOS_IN_MILLI;
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(csvPath,
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND))) {
+            for (int i = 0; i < histograms.length; i++) {
+                FrameHistogram histogram = histograms[i];
+                writer.printf("%d,%s,%d,%d,%d,%d%n", timeMillis, METRIC_NAMES[i],
+                        histogram.getCount(), histogram.percentile(MEDIAN),
+                        histogram.percentile(P99), histogram.getMax());
+                histogram.reset();
+            }
+        } catch (IOException e) {
+            System.err.println("Frame stats disabled, can't write " + csvPath + ": " + e);
+            csvPath = null;
+        }
+        lastWriteNanos = now;
+    }
+}
@@ -0,0 +1,98 @@
+package bricker.main;
+
+import danogl.GameObject;
+import danogl.collisions.GameObjectCollection;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * This class queues requests to add and remove game objects during a frame, and applies them
+ * in one batch when the frame ends. This keeps the game object collection stable while the
+ * engine iterates it for updates and collisions, and collapses repeated removals of the same
+ * object (e.g. a brick removed by two strategies) into one.
+ */
+public class GameObjectCommandBuffer {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int GROWTH_FACTOR = 2;
+    private GameObject[] objects = new GameObject[INITIAL_CAPACITY];
+    private int[] layers = new int[INITIAL_CAPACITY];
+    private boolean[] additions = new boolean[INITIAL_CAPACITY];
+    private final Set<GameObject> pendingRemovals =
+            Collections.newSetFromMap(new IdentityHashMap<>());
+    private int size = 0;
+
+    /**
+     * Queues adding an object to a layer.
+     * @param obj   Instance of game object.
+     * @param layer Object's layer.
+     */
+    public void add(GameObject obj, int layer) {
+        pendingRemovals.remove(obj);
+        push(obj, layer, true);
+    }
+
+    /**
+     * Queues removing an object from a layer. Does nothing if its removal is already queued.
+     * @param obj   Instance of game object.
+     * @param layer Object's layer.
+     */
+    public void remove(GameObject obj, int layer) {
+        if (pendingRemovals.add(obj)) {
+            push(obj, layer, false);
+        }
+    }
+
+    /**
+     * Applies all queued requests in the order they were made, and empties the buffer.
+     * @param gameObjects Collection to apply the requests to.
+     */
+    public void apply(GameObjectCollection gameObjects) {
+        for (int i = 0; i < size; i++) {
+            if (additions[i]) {
+                gameObjects.addGameObject(objects[i], layers[i]);
+            } else {
+                gameObjects.removeGameObject(objects[i], layers[i]);
+            }
+        }
+        clear();
+    }
+
+    /**
+     * Drops all queued requests without applying them.
+     */
+    public void clear() {
+        Arrays.fill(objects, 0, size, null);
+        pendingRemovals.clear();
+        size = 0;
+    }
+
+    /**
+     * Getter for number of queued requests.
+     * @return Queued requests count.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Appends a request, growing the buffer if needed.
+     * @param obj        Instance of game object.
+     * @param layer      Object's layer.
+     * @param isAddition True for an add request, false for a remove request.
+     */
+    private void push(GameObject obj, int layer, boolean isAddition) {
+        if (size == objects.length) {
+            int capacity = objects.length * GROWTH_FACTOR;
+            objects = Arrays.copyOf(objects, capacity);
+            layers = Arrays.copyOf(layers, capacity);
+            additions = Arrays.copyOf(additions, capacity);
+        }
+        objects[size] = obj;
+        layers[size] = layer;
+        additions[size] = isAddition;
+        size++;
+    }
+}
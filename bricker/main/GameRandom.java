@@ -0,0 +1,81 @@
+package bricker.main;
+
+import java.util.SplittableRandom;
+
+/**
+ * This class is the gameplay random stream of a game. It remembers its seed and how many
+ * values were drawn from it, so its exact position can be saved without drawing from it, and
+ * a stream at the same position can be created again. Every value is drawn with a single
+ * nextLong, which makes replaying the draws exact.
+ */
+public class GameRandom {
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+    private static final int DOUBLE_SHIFT = 64 - 53;
+    private final long seed;
+    private final SplittableRandom random;
+    private long draws = 0;
+
+    /**
+     * Constructor for GameRandom.
+     * @param seed Seed of the stream.
+     */
+    public GameRandom(long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Creates a stream at the position of a saved one.
+     * @param seed  Seed of the saved stream.
+     * @param draws Values drawn from the saved stream.
+     * @return Stream that continues with the same values as the saved one.
+     */
+    public static GameRandom restore(long seed, long draws) {
+        GameRandom gameRandom = new GameRandom(seed);
+        for (long i = 0; i < draws; i++) {
+            gameRandom.nextLong();
+        }
+        return gameRandom;
+    }
+
+    /**
+     * Draws a random long.
+     * @return Uniform random long.
+     */
+    public long nextLong() {
+        draws++;
+        return random.nextLong();
+    }
+
+    /**
+     * Draws a random boolean.
+     * @return True or false, with equal probability.
+     */
+    public boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+
+    /**
+     * Draws a random double.
+     * @return Uniform random double in [0,1).
+     */
+    public double nextDouble() {
+        return (nextLong() >>> DOUBLE_SHIFT) * DOUBLE_UNIT;
+    }
+
+    /**
+     * Getter for the stream's seed.
+     * @return Seed the stream was created with.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Getter for the number of values drawn so far.
+     * @return Draws count.
+     */
+    public long getDraws() {
+        return draws;
+    }
+}
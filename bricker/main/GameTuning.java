@@ -0,0 +1,88 @@
+package bricker.main;
+
+/**
+ * This class holds the gameplay balancing parameters of a Bricker game. It is immutable, so
+ * games running in parallel (e.g. in a parameter sweep) can't affect each other.
+ */
+public class GameTuning {
+    /** The game's original balancing. */
+    public static final GameTuning DEFAULT = new GameTuning(150, 1.4F, 10, 6, 4);
+    private final float ballVelocity;
+    private final float velocityFactor;
+    private final int strategyRollRange;
+    private final int turboMaxCollisions;
+    private final int extraPaddleMaxCollisions;
+
+    /**
+     * Constructor for GameTuning.
+     * @param ballVelocity             Speed of the ball and puck balls along each axis.
+     * @param velocityFactor           Factor turbo mode multiplies the ball's velocity by.
+     * @param strategyRollRange        Range of the strategy roll. Rolls 5-9 choose a special
+     *                                 strategy and any other roll the basic one, so a larger
+     *                                 range makes special bricks rarer.
+     * @param turboMaxCollisions       Collisions after which a turbo ball returns to normal.
+     * @param extraPaddleMaxCollisions Hits after which the extra paddle is removed.
+     */
+    public GameTuning(float ballVelocity, float velocityFactor, int strategyRollRange,
+                      int turboMaxCollisions, int extraPaddleMaxCollisions) {
+        if (strategyRollRange <= 0 || strategyRollRange > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Strategy roll range must be in [1,127]: " +
+                    strategyRollRange);
+        }
+        this.ballVelocity = ballVelocity;
+        this.velocityFactor = velocityFactor;
+        this.strategyRollRange = strategyRollRange;
+        this.turboMaxCollisions = turboMaxCollisions;
+        this.extraPaddleMaxCollisions = extraPaddleMaxCollisions;
+    }
+
+    /**
+     * Getter for the ball velocity.
+     * @return Speed of the ball and puck balls along each axis.
+     */
+    public float getBallVelocity() {
+        return ballVelocity;
+    }
+
+    /**
+     * Getter for the turbo velocity factor.
+     * @return Factor turbo mode multiplies the ball's velocity by.
+     */
+    public float getVelocityFactor() {
+        return velocityFactor;
+    }
+
+    /**
+     * Getter for the strategy roll range.
+     * @return Range of the strategy roll.
+     */
+    public int getStrategyRollRange() {
+        return strategyRollRange;
+    }
+
+    /**
+     * Getter for the turbo collisions limit.
+     * @return Collisions after which a turbo ball returns to normal.
+     */
+    public int getTurboMaxCollisions() {
+        return turboMaxCollisions;
+    }
+
+    /**
+     * Getter for the extra paddle hits limit.
+     * @return Hits after which the extra paddle is removed.
+     */
+    public int getExtraPaddleMaxCollisions() {
+        return extraPaddleMaxCollisions;
+    }
+
+    /**
+     * Describes the parameters as comma separated values, in constructor order.
+     * @return CSV fields of this tuning.
+     */
+    @Override
+    public String toString() {
+        return ballVelocity + "," + velocityFactor + "," + strategyRollRange + "," +
+                turboMaxCollisions + "," + extraPaddleMaxCollisions;
+    }
+}
@@ -0,0 +1,37 @@
+package bricker.main;
+
+import danogl.gui.ImageReader;
+import danogl.gui.WindowController;
+import danogl.gui.rendering.ImageRenderable;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * This class is an image reader that never touches the disk, used to run the Bricker game
+ * headless. Every path is answered with the same blank image.
+ */
+public class HeadlessImageReader extends ImageReader {
+    private static final int BLANK_SIZE = 1;
+    private final ImageRenderable blankImage;
+
+    /**
+     * Constructor for HeadlessImageReader.
+     * @param windowController Instance of the headless window controller.
+     */
+    public HeadlessImageReader(WindowController windowController) {
+        super(windowController);
+        this.blankImage = new ImageRenderable(
+                new BufferedImage(BLANK_SIZE, BLANK_SIZE, BufferedImage.TYPE_INT_ARGB));
+    }
+
+    /**
+     * Returns a shared blank image instead of reading from disk.
+     * @param imageFilePath             Path of the image (ignored).
+     * @param isTopLeftPixelTransparent Transparency flag (ignored).
+     * @return A blank image.
+     */
+    @Override
+    public ImageRenderable readImage(String imageFilePath, boolean isTopLeftPixelTransparent) {
+        return blankImage;
+    }
+}
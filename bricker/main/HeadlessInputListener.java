@@ -0,0 +1,72 @@
+package bricker.main;
+
+import danogl.gui.UserInputListener;
+import danogl.util.Vector2;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * This class is a user input listener with no keyboard or mouse behind it, used to run the
+ * Bricker game headless. No key or button is ever pressed.
+ */
+public class HeadlessInputListener implements UserInputListener {
+
+    /**
+     * Checks if a key is pressed.
+     * @param keyCode Key code to check.
+     * @return Always false.
+     */
+    @Override
+    public boolean isKeyPressed(int keyCode) {
+        return false;
+    }
+
+    /**
+     * Getter for the currently pressed keys.
+     * @return Empty set.
+     */
+    @Override
+    public Set<Integer> pressedKeys() {
+        return Collections.emptySet();
+    }
+
+    /**
+     * Checks if a key was pressed this frame.
+     * @param keyCode Key code to check.
+     * @return Always false.
+     */
+    @Override
+    public boolean wasKeyPressedThisFrame(int keyCode) {
+        return false;
+    }
+
+    /**
+     * Checks if a key was released this frame.
+     * @param keyCode Key code to check.
+     * @return Always false.
+     */
+    @Override
+    public boolean wasKeyReleasedThisFrame(int keyCode) {
+        return false;
+    }
+
+    /**
+     * Checks if a mouse button is pressed.
+     * @param button Button to check.
+     * @return Always false.
+     */
+    @Override
+    public boolean isMouseButtonPressed(int button) {
+        return false;
+    }
+
+    /**
+     * Getter for the mouse position.
+     * @return Origin, since there is no mouse.
+     */
+    @Override
+    public Vector2 getMouseScreenCoord() {
+        return Vector2.ZERO;
+    }
+}
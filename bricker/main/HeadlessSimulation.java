@@ -0,0 +1,232 @@
+package bricker.main;
+
+import danogl.gui.ImageReader;
+import danogl.gui.SoundReader;
+import danogl.gui.UserInputListener;
+import danogl.util.Vector2;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * This class runs the Bricker game with no window, no dialogs and no real image or sound
+ * readers, stepping the game's update as fast as the CPU allows. It is meant for soak tests and
+ * regression runs, and reports how many frames per second were simulated.
+ */
+public class HeadlessSimulation {
+    private static final String WINDOW_NAME = "Brick";
+    private static final Vector2 WINDOW_DIMENSIONS = new Vector2(700, 500);
+    private static final float FRAME_DELTA = 1f / 60;
+    private static final int ROWS = 7;
+    private static final int COLS = 8;
+    private static final int DEFAULT_GAMES = 100;
+    private static final int DEFAULT_MAX_FRAMES_PER_GAME = 36000;
+    private static final double NANOS_IN_SECOND = 1e9;
+    private static final String SEED_OPTION = "--seed";
+    private static final String STATS_OPTION = "--stats";
+    private static final String ENDLESS_OPTION = "--endless";
+    private static final long STATS_INTERVAL_NANOS = 5_000_000_000L;
+
+    private final Vector2 brickDimensions;
+    private final long seed;
+    private final GameTuning tuning;
+    private final HeadlessWindowController windowController;
+    private final ImageReader imageReader;
+    private final SoundReader soundReader;
+    private final UserInputListener inputListener;
+    private final int maxFramesPerGame;
+    private Path statsPath = null;
+    private boolean isEndless = false;
+    private long framesSimulated = 0;
+    private int gamesFinished = 0;
+    private int gamesTimedOut = 0;
+    private int gamesWon = 0;
+    private int gamesLost = 0;
+    private long elapsedNanos = 0;
+
+    /**
+     * Constructor for HeadlessSimulation.
+     * @param brickDimensions  Dimensions for bricks (rows, columns).
+     * @param yesNoPolicy      Policy that answers the game's win/lose dialogs.
+     * @param maxFramesPerGame Frames after which a game that did not end is reset.
+     * @param seed             Seed of the game's randomness.
+     * @param tuning           Gameplay balancing parameters.
+     */
+    public HeadlessSimulation(Vector2 brickDimensions,
+                              HeadlessWindowController.YesNoPolicy yesNoPolicy,
+                              int maxFramesPerGame, long seed, GameTuning tuning) {
+        this.brickDimensions = brickDimensions;
+        this.seed = seed;
+        this.tuning = tuning;
+        this.maxFramesPerGame = maxFramesPerGame;
+        this.windowController = new HeadlessWindowController(WINDOW_DIMENSIONS, yesNoPolicy);
+        this.imageReader = new HeadlessImageReader(windowController);
+        this.soundReader = new HeadlessSoundReader(windowController);
+        this.inputListener = new HeadlessInputListener();
+    }
+
+    /**
+     * Writes frame statistics of the following runs to a CSV file, every few seconds and
+     * when a run ends.
+     * @param statsPath File to write.
+     */
+    public void setStatsPath(Path statsPath) {
+        this.statsPath = statsPath;
+    }
+
+    /**
+     * Plays the following runs in endless mode, see BrickerGameManager.setEndless.
+     * @param isEndless True to play endless games.
+     */
+    public void setEndless(boolean isEndless) {
+        this.isEndless = isEndless;
+    }
+
+    /**
+     * Runs the given number of games back to back. A game ends when a win or loss dialog is
+     * answered with play again, or when it reaches the frame limit; the next game is started
+     * in place by restartGame.
+     * @param games Number of games to run.
+     * @throws IOException If the statistics file can't be created.
+     */
+    public void run(int games) throws IOException {
+        BrickerGameManager game = new BrickerGameManager(WINDOW_NAME, WINDOW_DIMENSIONS,
+                brickDimensions, seed, tuning);
+        if (statsPath != null) {
+            game.getFrameStats().setCsvOutput(statsPath, STATS_INTERVAL_NANOS);
+        }
+        game.setEndless(isEndless);
+        game.initializeGame(imageReader, soundReader, inputListener, windowController);
+        int framesInGame = 0;
+        long start = System.nanoTime();
+        while (gamesFinished < games && !windowController.isCloseRequested()) {
+            game.update(FRAME_DELTA);
+            framesSimulated++;
+            framesInGame++;
+            boolean timedOut = framesInGame >= maxFramesPerGame;
+            if (game.isResetPending() || timedOut) {
+                if (game.isGameWon()) {
+                    gamesWon++;
+                } else if (game.isGameLost()) {
+                    gamesLost++;
+                } else if (timedOut) {
+                    gamesTimedOut++;
+                }
+                gamesFinished++;
+                framesInGame = 0;
+                game.restartGame();
+            }
+        }
+        elapsedNanos += System.nanoTime() - start;
+        game.getFrameStats().writeCsv();
+    }
+
+    /**
+     * Getter for number of frames simulated.
+     * @return Frames simulated so far.
+     */
+    public long getFramesSimulated() {
+        return framesSimulated;
+    }
+
+    /**
+     * Getter for number of games finished, including timed out games.
+     * @return Games finished so far.
+     */
+    public int getGamesFinished() {
+        return gamesFinished;
+    }
+
+    /**
+     * Getter for number of games won.
+     * @return Games won so far.
+     */
+    public int getGamesWon() {
+        return gamesWon;
+    }
+
+    /**
+     * Getter for number of games lost.
+     * @return Games lost so far.
+     */
+    public int getGamesLost() {
+        return gamesLost;
+    }
+
+    /**
+     * Getter for number of games that reached the frame limit.
+     * @return Games timed out so far.
+     */
+    public int getGamesTimedOut() {
+        return gamesTimedOut;
+    }
+
+    /**
+     * Getter for wall-clock time spent running games.
+     * @return Elapsed nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Calculates simulated frames per wall-clock second.
+     * @return Frames per second, or zero if nothing ran yet.
+     */
+    public double getFramesPerSecond() {
+        if (elapsedNanos == 0) {
+            return 0;
+        }
+        return framesSimulated * NANOS_IN_SECOND / elapsedNanos;
+    }
+
+    /**
+     * Main method of the headless simulation, answers every dialog with "play again".
+     * @param args Command arguments: [rows] [columns] [games] [maxFramesPerGame],
+     *             all optional, parsed the same way as the game's main, and optionally
+     *             --seed and a number to make the run reproducible, and --stats and a path
+     *             to write frame statistics as CSV, and --endless to play endless games.
+     * @throws IOException If the statistics file can't be created.
+     */
+    public static void main(String[] args) throws IOException {
+        long seed = System.nanoTime();
+        Path statsPath = null;
+        boolean isEndless = false;
+        String[] positional = new String[args.length];
+        int positionalCount = 0;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals(SEED_OPTION) && i + 1 < args.length) {
+                seed = Long.parseLong(args[++i]);
+            } else if (args[i].equals(STATS_OPTION) && i + 1 < args.length) {
+                statsPath = Paths.get(args[++i]);
+            } else if (args[i].equals(ENDLESS_OPTION)) {
+                isEndless = true;
+            } else {
+                positional[positionalCount++] = args[i];
+            }
+        }
+        Vector2 brickDim;
+        if (positionalCount >= 2) {
+            int cols = Integer.parseInt(positional[0]);
+            int rows = Integer.parseInt(positional[1]);
+            brickDim = new Vector2(rows, cols);
+        } else {
+            brickDim = new Vector2(ROWS, COLS);
+        }
+        int games = positionalCount >= 3 ? Integer.parseInt(positional[2]) : DEFAULT_GAMES;
+        int maxFrames = positionalCount >= 4 ? Integer.parseInt(positional[3]) :
+                DEFAULT_MAX_FRAMES_PER_GAME;
+        HeadlessSimulation simulation = new HeadlessSimulation(brickDim,
+                (message, answered) -> true, maxFrames, seed, GameTuning.DEFAULT);
+        if (statsPath != null) {
+            simulation.setStatsPath(statsPath);
+        }
+        simulation.setEndless(isEndless);
+        simulation.run(games);
+        System.out.printf("seed=%d games=%d won=%d lost=%d timedOut=%d frames=%d fps=%.1f%n",
+                seed, simulation.getGamesFinished(), simulation.getGamesWon(),
+                simulation.getGamesLost(), simulation.getGamesTimedOut(),
+                simulation.getFramesSimulated(), simulation.getFramesPerSecond());
+    }
+}
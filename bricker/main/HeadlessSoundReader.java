@@ -0,0 +1,30 @@
+package bricker.main;
+
+import danogl.gui.Sound;
+import danogl.gui.SoundReader;
+import danogl.gui.WindowController;
+
+/**
+ * This class is a sound reader that never touches the disk or the audio device, used to run
+ * the Bricker game headless. Game objects treat a null sound as silence.
+ */
+public class HeadlessSoundReader extends SoundReader {
+
+    /**
+     * Constructor for HeadlessSoundReader.
+     * @param windowController Instance of the headless window controller.
+     */
+    public HeadlessSoundReader(WindowController windowController) {
+        super(windowController);
+    }
+
+    /**
+     * Returns no sound instead of reading from disk.
+     * @param path Path of the sound (ignored).
+     * @return Always null.
+     */
+    @Override
+    public Sound readSound(String path) {
+        return null;
+    }
+}
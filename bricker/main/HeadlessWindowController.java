@@ -0,0 +1,138 @@
+package bricker.main;
+
+import danogl.gui.WindowController;
+import danogl.util.Vector2;
+
+/**
+ * This class is a window controller with no window behind it, used to run the Bricker game
+ * headless. Yes/no dialogs are answered from a policy instead of the user, and close
+ * requests are only recorded so the simulation loop can act on them between frames.
+ */
+public class HeadlessWindowController implements WindowController {
+    private static final int NO_FRAMERATE = 0;
+    private static final float DEFAULT_TIME_SCALE = 1;
+    private final Vector2 windowDimensions;
+    private final YesNoPolicy yesNoPolicy;
+    private boolean closeRequested = false;
+    private int dialogsAnswered = 0;
+    private float timeScale = DEFAULT_TIME_SCALE;
+
+    /**
+     * Policy that answers the game's yes/no dialogs (e.g. "Play again?").
+     */
+    @FunctionalInterface
+    public interface YesNoPolicy {
+        /**
+         * Answers a yes/no dialog.
+         * @param message         Message the game would have shown to the user.
+         * @param dialogsAnswered Number of dialogs answered before this one.
+         * @return True to answer yes, false to answer no.
+         */
+        boolean answer(String message, int dialogsAnswered);
+    }
+
+    /**
+     * Constructor for HeadlessWindowController.
+     * @param windowDimensions Dimensions of the simulated game window.
+     * @param yesNoPolicy      Policy that answers the game's yes/no dialogs.
+     */
+    public HeadlessWindowController(Vector2 windowDimensions, YesNoPolicy yesNoPolicy) {
+        this.windowDimensions = windowDimensions;
+        this.yesNoPolicy = yesNoPolicy;
+    }
+
+    /**
+     * Getter for the simulated window dimensions.
+     * @return Window dimensions.
+     */
+    @Override
+    public Vector2 getWindowDimensions() {
+        return windowDimensions;
+    }
+
+    /**
+     * Records that the game asked to close the window.
+     */
+    @Override
+    public void closeWindow() {
+        this.closeRequested = true;
+    }
+
+    /**
+     * Does nothing, since the game restarts itself at the start of the next frame.
+     */
+    @Override
+    public void resetGame() {
+    }
+
+    /**
+     * Answers a yes/no dialog using the policy.
+     * @param msg Message of the dialog.
+     * @return The policy's answer.
+     */
+    @Override
+    public boolean openYesNoDialog(String msg) {
+        boolean answer = yesNoPolicy.answer(msg, dialogsAnswered);
+        dialogsAnswered++;
+        return answer;
+    }
+
+    /**
+     * Message boxes are ignored when running headless.
+     * @param msg Message of the box.
+     */
+    @Override
+    public void showMessageBox(String msg) {
+    }
+
+    /**
+     * Frame rate is not limited when running headless, so this is ignored.
+     * @param targetFramerate Requested frame rate.
+     */
+    @Override
+    public void setTargetFramerate(int targetFramerate) {
+    }
+
+    /**
+     * Getter for the target frame rate.
+     * @return Always zero, meaning unlimited.
+     */
+    @Override
+    public int getTargetFramerate() {
+        return NO_FRAMERATE;
+    }
+
+    /**
+     * Sets the time scale.
+     * @param timeScale New time scale.
+     */
+    @Override
+    public void setTimeScale(float timeScale) {
+        this.timeScale = timeScale;
+    }
+
+    /**
+     * Getter for the time scale.
+     * @return Current time scale.
+     */
+    @Override
+    public float getTimeScale() {
+        return timeScale;
+    }
+
+    /**
+     * Checks if the game asked to close the window.
+     * @return True if close was requested.
+     */
+    public boolean isCloseRequested() {
+        return closeRequested;
+    }
+
+    /**
+     * Getter for number of dialogs answered so far.
+     * @return Number of dialogs answered.
+     */
+    public int getDialogsAnswered() {
+        return dialogsAnswered;
+    }
+}
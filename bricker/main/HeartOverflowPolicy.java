@@ -0,0 +1,11 @@
+package bricker.main;
+
+/**
+ * What a game does with a new falling heart when all the falling heart slots are taken.
+ */
+public enum HeartOverflowPolicy {
+    /** The new heart is not created. */
+    DROP_NEW,
+    /** The heart falling the longest is removed and reused for the new heart. */
+    RECYCLE_OLDEST
+}
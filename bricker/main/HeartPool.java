@@ -0,0 +1,140 @@
+package bricker.main;
+
+import bricker.gameobjects.Heart;
+
+/**
+ * This class holds the falling hearts of a game, up to a fixed capacity. Live hearts are kept
+ * at the start of an array and free hearts right after them, so acquiring and releasing a
+ * heart are O(1) swaps and hearts are never allocated twice for the same slot.
+ */
+public class HeartPool {
+    private final Heart[] hearts;
+    private final long[] spawnOrder;
+    private int liveCount = 0;
+    private int allocatedCount = 0;
+    private long spawnCounter = 0;
+
+    /**
+     * Constructor for HeartPool.
+     * @param capacity Maximum number of hearts falling at once.
+     */
+    public HeartPool(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Heart capacity must be positive: " + capacity);
+        }
+        this.hearts = new Heart[capacity];
+        this.spawnOrder = new long[capacity];
+    }
+
+    /**
+     * Takes a free heart and counts it as live.
+     * @return A free heart, or null if every allocated heart is live and the caller must
+     *         allocate one and add it with addLive.
+     * @throws IllegalStateException If the pool is full.
+     */
+    public Heart acquire() {
+        checkNotFull();
+        if (liveCount == allocatedCount) {
+            return null;
+        }
+        Heart heart = hearts[liveCount];
+        markLive(heart);
+        return heart;
+    }
+
+    /**
+     * Adds a newly allocated heart to the pool as live. Only valid after acquire returned null.
+     * @param heart The new heart.
+     * @throws IllegalStateException If the pool is full or still has free hearts.
+     */
+    public void addLive(Heart heart) {
+        checkNotFull();
+        if (liveCount != allocatedCount) {
+            throw new IllegalStateException("Free hearts must be acquired first");
+        }
+        hearts[liveCount] = heart;
+        allocatedCount++;
+        markLive(heart);
+    }
+
+    /**
+     * Returns a live heart to the free hearts, by swapping it with the last live heart.
+     * @param heart Heart that left the game.
+     * @return True if the heart was live, false if it was already released.
+     */
+    public boolean release(Heart heart) {
+        int index = heart.getPoolIndex();
+        if (index < 0 || index >= liveCount || hearts[index] != heart) {
+            return false;
+        }
+        int last = liveCount - 1;
+        hearts[index] = hearts[last];
+        spawnOrder[index] = spawnOrder[last];
+        hearts[index].setPoolIndex(index);
+        hearts[last] = heart;
+        heart.setPoolIndex(Heart.NOT_IN_POOL);
+        liveCount = last;
+        return true;
+    }
+
+    /**
+     * Finds the live heart that was acquired first. Scans the live hearts, so it is meant for
+     * the rare overflow case only.
+     * @return The oldest live heart, or null if no heart is live.
+     */
+    public Heart getOldest() {
+        Heart oldest = null;
+        long oldestSpawn = Long.MAX_VALUE;
+        for (int i = 0; i < liveCount; i++) {
+            if (spawnOrder[i] < oldestSpawn) {
+                oldestSpawn = spawnOrder[i];
+                oldest = hearts[i];
+            }
+        }
+        return oldest;
+    }
+
+    /**
+     * Getter for a live heart.
+     * @param index Index of the heart, in [0, getLiveCount()). Indices change on release.
+     * @return The live heart.
+     */
+    public Heart get(int index) {
+        return hearts[index];
+    }
+
+    /**
+     * Getter for number of live hearts.
+     * @return Live hearts count.
+     */
+    public int getLiveCount() {
+        return liveCount;
+    }
+
+    /**
+     * Checks if no more hearts can be live.
+     * @return True if the pool is full.
+     */
+    public boolean isFull() {
+        return liveCount == hearts.length;
+    }
+
+    /**
+     * Marks the heart at the end of the live hearts as live.
+     * @param heart The heart.
+     */
+    private void markLive(Heart heart) {
+        heart.setPoolIndex(liveCount);
+        spawnOrder[liveCount] = spawnCounter++;
+        liveCount++;
+    }
+
+    /**
+     * Throws if the pool is full.
+     */
+    private void checkNotFull() {
+        if (isFull()) {
+            throw new IllegalStateException("Heart pool is full");
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package bricker.main;
+
+import danogl.util.Vector2;
+
+import java.awt.event.KeyEvent;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.zip.CRC32;
+
+/**
+ * This class is a recorded session of player input: the game settings needed to rebuild the
+ * same game (seed, window and brick dimensions, endless mode, balancing, and the level file's
+ * path and checksum), and a delta-encoded log of the keys the game reads and of the frames'
+ * delta times.
+ * <p>
+ * The log holds one entry per change rather than one per frame. An entry is a variable-length
+ * count of frames since the previous entry, a byte with a bit per recorded key, and, when its
+ * DELTA_TIME_FLAG bit is set, the new frame delta time as float bits. A file is the header
+ * (magic "BRKI", version, settings, frame count, log length) followed by the log, big-endian.
+ * The level path is stored as a UTF-8 length-prefixed string, empty if no level was played.
+ */
+public class InputLog {
+    /** Keys the log records, the paddle's arrows and the debug win key; bit i is key i. */
+    static final int[] RECORDED_KEYS = {KeyEvent.VK_LEFT, KeyEvent.VK_RIGHT, KeyEvent.VK_W};
+    /** Bit of an entry's key byte telling that a new delta time follows. */
+    public static final int DELTA_TIME_FLAG = 0x80;
+    private static final int MAGIC = 0x42524B49;
+    private static final int VERSION = 2;
+    private static final int VAR_INT_BITS = 7;
+    private static final int VAR_INT_MASK = 0x7F;
+    private static final int VAR_INT_MORE = 0x80;
+    private final long seed;
+    private final Vector2 windowDimensions;
+    private final Vector2 brickDimensions;
+    private final boolean isEndless;
+    private final GameTuning tuning;
+    private final Path levelPath;
+    private final long levelChecksum;
+    private final int framesCount;
+    private final byte[] entries;
+
+    /**
+     * Constructor for InputLog.
+     * @param seed             Seed of the recorded game.
+     * @param windowDimensions Dimensions of the recorded game's window.
+     * @param brickDimensions  Brick dimensions of the recorded game.
+     * @param isEndless        True if the recorded game was endless.
+     * @param tuning           Balancing parameters of the recorded game.
+     * @param levelPath        Level file of the recorded game, or null if it had none.
+     * @param levelChecksum    Checksum of the level file, as returned by checksum.
+     * @param framesCount      Number of recorded frames.
+     * @param entries          Encoded log entries.
+     */
+    public InputLog(long seed, Vector2 windowDimensions, Vector2 brickDimensions,
+                    boolean isEndless, GameTuning tuning, Path levelPath, long levelChecksum,
+                    int framesCount, byte[] entries) {
+        this.seed = seed;
+        this.windowDimensions = windowDimensions;
+        this.brickDimensions = brickDimensions;
+        this.isEndless = isEndless;
+        this.tuning = tuning;
+        this.levelPath = levelPath;
+        this.levelChecksum = levelChecksum;
+        this.framesCount = framesCount;
+        this.entries = entries;
+    }
+
+    /**
+     * Writes the log to a file, replacing it if it exists.
+     * @param path File to write.
+     * @throws IOException If the file can't be written.
+     */
+    public void write(Path path) throws IOException {
+        byte[] levelPathBytes = levelPath == null ? new byte[0] :
+                levelPath.toString().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(
+                headerBytes() + levelPathBytes.length + entries.length);
+        buffer.putInt(MAGIC).putInt(VERSION).putLong(seed);
+        buffer.putFloat(windowDimensions.x()).putFloat(windowDimensions.y());
+        buffer.putFloat(brickDimensions.x()).putFloat(brickDimensions.y());
+        buffer.put((byte) (isEndless ? 1 : 0));
+        buffer.putFloat(tuning.getBallVelocity()).putFloat(tuning.getVelocityFactor());
+        buffer.putInt(tuning.getStrategyRollRange()).putInt(tuning.getTurboMaxCollisions());
+        buffer.putInt(tuning.getExtraPaddleMaxCollisions());
+        buffer.putInt(levelPathBytes.length).put(levelPathBytes).putLong(levelChecksum);
+        buffer.putInt(framesCount).putInt(entries.length).put(entries);
+        Files.write(path, buffer.array());
+    }
+
+    /**
+     * Reads a log written by write.
+     * @param path File to read.
+     * @return The log.
+     * @throws IOException If the file can't be read or is not a valid input log.
+     */
+    public static InputLog read(Path path) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        if (buffer.remaining() < headerBytes() || buffer.getInt() != MAGIC) {
+            throw new IOException("Not an input log: " + path);
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported input log version " + version + ": " + path);
+        }
+        long seed = buffer.getLong();
+        Vector2 windowDimensions = new Vector2(buffer.getFloat(), buffer.getFloat());
+        Vector2 brickDimensions = new Vector2(buffer.getFloat(), buffer.getFloat());
+        boolean isEndless = buffer.get() != 0;
+        GameTuning tuning = new GameTuning(buffer.getFloat(), buffer.getFloat(),
+                buffer.getInt(), buffer.getInt(), buffer.getInt());
+        int levelPathLength = buffer.getInt();
+        if (levelPathLength < 0 || levelPathLength > buffer.remaining() - Long.BYTES -
+                2 * Integer.BYTES) {
+            throw new IOException("Input log level path doesn't fit its file: " + path);
+        }
+        byte[] levelPathBytes = new byte[levelPathLength];
+        buffer.get(levelPathBytes);
+        Path levelPath = levelPathLength == 0 ? null :
+                Paths.get(new String(levelPathBytes, StandardCharsets.UTF_8));
+        long levelChecksum = buffer.getLong();
+        int framesCount = buffer.getInt();
+        int entriesLength = buffer.getInt();
+        if (entriesLength != buffer.remaining()) {
+            throw new IOException("Input log length doesn't match its file size: " + path);
+        }
+        byte[] entries = new byte[entriesLength];
+        buffer.get(entries);
+        return new InputLog(seed, windowDimensions, brickDimensions, isEndless, tuning,
+                levelPath, levelChecksum, framesCount, entries);
+    }
+
+    /**
+     * Calculates a checksum of a level file's contents, to tell if a replay uses the same
+     * level as the recorded game.
+     * @param levelPath Level file.
+     * @return CRC-32 of the file's bytes.
+     * @throws IOException If the file can't be read.
+     */
+    public static long checksum(Path levelPath) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(Files.readAllBytes(levelPath));
+        return crc.getValue();
+    }
+
+    /**
+     * Calculates the size of a file's header, without the level path's characters.
+     * @return Header size in bytes.
+     */
+    private static int headerBytes() {
+        return 2 * Integer.BYTES + Long.BYTES + 4 * Float.BYTES + Byte.BYTES +
+                2 * Float.BYTES + 3 * Integer.BYTES + Integer.BYTES + Long.BYTES +
+                2 * Integer.BYTES;
+    }
+
+    /**
+     * Writes a non-negative int in 7-bit groups, low bits first, so small counts take a byte.
+     * @param out   Stream to write to.
+     * @param value Value to write.
+     */
+    static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~VAR_INT_MASK) != 0) {
+            out.write((value & VAR_INT_MASK) | VAR_INT_MORE);
+            value >>>= VAR_INT_BITS;
+        }
+        out.write(value);
+    }
+
+    /**
+     * Reads an int written by writeVarInt.
+     * @param in Buffer to read from.
+     * @return The value.
+     */
+    static int readVarInt(ByteBuffer in) {
+        int value = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = in.get();
+            value |= (b & VAR_INT_MASK) << shift;
+            shift += VAR_INT_BITS;
+        } while ((b & VAR_INT_MORE) != 0);
+        return value;
+    }
+
+    /**
+     * Getter for the recorded game's seed.
+     * @return Seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Getter for the recorded game's window dimensions.
+     * @return Window dimensions.
+     */
+    public Vector2 getWindowDimensions() {
+        return windowDimensions;
+    }
+
+    /**
+     * Getter for the recorded game's brick dimensions.
+     * @return Brick dimensions.
+     */
+    public Vector2 getBrickDimensions() {
+        return brickDimensions;
+    }
+
+    /**
+     * Checks if the recorded game was endless.
+     * @return True for an endless game.
+     */
+    public boolean isEndless() {
+        return isEndless;
+    }
+
+    /**
+     * Getter for the recorded game's balancing parameters.
+     * @return Balancing parameters.
+     */
+    public GameTuning getTuning() {
+        return tuning;
+    }
+
+    /**
+     * Getter for the recorded game's level file.
+     * @return Level file path, or null if the game had no level.
+     */
+    public Path getLevelPath() {
+        return levelPath;
+    }
+
+    /**
+     * Getter for the checksum of the recorded game's level file.
+     * @return Checksum of the level file, or 0 if the game had no level.
+     */
+    public long getLevelChecksum() {
+        return levelChecksum;
+    }
+
+    /**
+     * Getter for the number of recorded frames.
+     * @return Frames count.
+     */
+    public int getFramesCount() {
+        return framesCount;
+    }
+
+    /**
+     * Getter for the encoded log entries.
+     * @return Entries, shared with this log.
+     */
+    byte[] getEntries() {
+        return entries;
+    }
+}
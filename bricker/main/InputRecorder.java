@@ -0,0 +1,142 @@
+package bricker.main;
+
+import danogl.gui.UserInputListener;
+import danogl.util.Vector2;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Path;
+import java.util.Set;
+
+/**
+ * This class is a user input listener that records the keys the game reads, for replaying
+ * with ReplayInputListener. It wraps the real listener: at the start of every frame the
+ * recorded keys are sampled once, the game reads that sample for the whole frame, and the
+ * sample is appended to the log only if it differs from the previous frame's.
+ */
+public class InputRecorder implements UserInputListener {
+    private final ByteArrayOutputStream entries = new ByteArrayOutputStream();
+    private UserInputListener delegate = new HeadlessInputListener();
+    private int keysMask = 0;
+    private int loggedKeysMask = -1;
+    private float loggedDeltaTime = Float.NaN;
+    private int framesCount = 0;
+    private int lastEntryFrame = 0;
+
+    /**
+     * Sets the real listener the keys are read from.
+     * @param delegate Listener of the keyboard and mouse.
+     */
+    public void setDelegate(UserInputListener delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Samples the recorded keys for a new frame and logs them if they changed.
+     * @param deltaTime Delta time of the frame.
+     */
+    public void beginFrame(float deltaTime) {
+        keysMask = 0;
+        for (int i = 0; i < InputLog.RECORDED_KEYS.length; i++) {
+            if (delegate.isKeyPressed(InputLog.RECORDED_KEYS[i])) {
+                keysMask |= 1 << i;
+            }
+        }
+        boolean isNewDeltaTime = Float.floatToIntBits(deltaTime) !=
+                Float.floatToIntBits(loggedDeltaTime);
+        if (keysMask != loggedKeysMask || isNewDeltaTime) {
+            InputLog.writeVarInt(entries, framesCount - lastEntryFrame);
+            entries.write(keysMask | (isNewDeltaTime ? InputLog.DELTA_TIME_FLAG : 0));
+            if (isNewDeltaTime) {
+                int bits = Float.floatToIntBits(deltaTime);
+                for (int shift = Integer.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+                    entries.write(bits >>> shift);
+                }
+            }
+            loggedKeysMask = keysMask;
+            loggedDeltaTime = deltaTime;
+            lastEntryFrame = framesCount;
+        }
+        framesCount++;
+    }
+
+    /**
+     * Creates a log of the frames recorded so far.
+     * @param seed             Seed of the recorded game.
+     * @param windowDimensions Dimensions of the recorded game's window.
+     * @param brickDimensions  Brick dimensions of the recorded game.
+     * @param isEndless        True if the recorded game is endless.
+     * @param tuning           Balancing parameters of the recorded game.
+     * @param levelPath        Level file of the recorded game, or null if it has none.
+     * @param levelChecksum    Checksum of the level file, as returned by InputLog.checksum.
+     * @return The log.
+     */
+    public InputLog toLog(long seed, Vector2 windowDimensions, Vector2 brickDimensions,
+                          boolean isEndless, GameTuning tuning, Path levelPath,
+                          long levelChecksum) {
+        return new InputLog(seed, windowDimensions, brickDimensions, isEndless, tuning,
+                levelPath, levelChecksum, framesCount, entries.toByteArray());
+    }
+
+    /**
+     * Checks if a key is pressed. Recorded keys are answered from the frame's sample.
+     * @param keyCode Key code to check.
+     * @return True if the key is pressed.
+     */
+    @Override
+    public boolean isKeyPressed(int keyCode) {
+        for (int i = 0; i < InputLog.RECORDED_KEYS.length; i++) {
+            if (InputLog.RECORDED_KEYS[i] == keyCode) {
+                return (keysMask & (1 << i)) != 0;
+            }
+        }
+        return delegate.isKeyPressed(keyCode);
+    }
+
+    /**
+     * Getter for the currently pressed keys.
+     * @return Pressed keys of the real listener.
+     */
+    @Override
+    public Set<Integer> pressedKeys() {
+        return delegate.pressedKeys();
+    }
+
+    /**
+     * Checks if a key was pressed this frame.
+     * @param keyCode Key code to check.
+     * @return Answer of the real listener.
+     */
+    @Override
+    public boolean wasKeyPressedThisFrame(int keyCode) {
+        return delegate.wasKeyPressedThisFrame(keyCode);
+    }
+
+    /**
+     * Checks if a key was released this frame.
+     * @param keyCode Key code to check.
+     * @return Answer of the real listener.
+     */
+    @Override
+    public boolean wasKeyReleasedThisFrame(int keyCode) {
+        return delegate.wasKeyReleasedThisFrame(keyCode);
+    }
+
+    /**
+     * Checks if a mouse button is pressed.
+     * @param button Button to check.
+     * @return Answer of the real listener.
+     */
+    @Override
+    public boolean isMouseButtonPressed(int button) {
+        return delegate.isMouseButtonPressed(button);
+    }
+
+    /**
+     * Getter for the mouse position.
+     * @return Position from the real listener.
+     */
+    @Override
+    public Vector2 getMouseScreenCoord() {
+        return delegate.getMouseScreenCoord();
+    }
+}
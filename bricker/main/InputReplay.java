@@ -0,0 +1,168 @@
+package bricker.main;
+
+import danogl.gui.ImageReader;
+import danogl.gui.SoundReader;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * This class replays a recorded InputLog with no window, as fast as the CPU allows. The game
+ * is rebuilt from the log's settings and fed the recorded keys and delta times through a
+ * ReplayInputListener, so it plays exactly as the recorded session did. Every "Play again?"
+ * dialog is answered with yes, since a no ended the recorded session.
+ */
+public class InputReplay {
+    private static final String WINDOW_NAME = "Brick";
+    private static final double NANOS_IN_SECOND = 1e9;
+    private static final String STATS_OPTION = "--stats";
+    private static final String LEVEL_OPTION = "--level";
+    private static final long STATS_INTERVAL_NANOS = 5_000_000_000L;
+
+    private final InputLog inputLog;
+    private Path statsPath = null;
+    private Path levelPath = null;
+    private long framesReplayed = 0;
+    private long elapsedNanos = 0;
+    private BrickerGameManager game;
+
+    /**
+     * Constructor for InputReplay.
+     * @param inputLog Log to replay.
+     */
+    public InputReplay(InputLog inputLog) {
+        this.inputLog = inputLog;
+    }
+
+    /**
+     * Writes frame statistics of the replay to a CSV file.
+     * @param statsPath File to write.
+     */
+    public void setStatsPath(Path statsPath) {
+        this.statsPath = statsPath;
+    }
+
+    /**
+     * Sets where to find the level file the recorded game was played on, if it moved since
+     * the recording. By default the log's recorded path is used.
+     * @param levelPath Level file, or null to use the recorded path.
+     */
+    public void setLevel(Path levelPath) {
+        this.levelPath = levelPath;
+    }
+
+    /**
+     * Replays every recorded frame, or until the game closes its window.
+     * @throws IOException If the level file can't be read or isn't the recorded level, or
+     *                     the statistics file can't be created.
+     */
+    public void run() throws IOException {
+        Path replayedLevelPath = checkLevel();
+        HeadlessWindowController windowController = new HeadlessWindowController(
+                inputLog.getWindowDimensions(), (message, answered) -> true);
+        ImageReader imageReader = new HeadlessImageReader(windowController);
+        SoundReader soundReader = new HeadlessSoundReader(windowController);
+        ReplayInputListener inputListener = new ReplayInputListener(inputLog);
+        game = new BrickerGameManager(WINDOW_NAME, inputLog.getWindowDimensions(),
+                inputLog.getBrickDimensions(), inputLog.getSeed(), inputLog.getTuning());
+        game.setEndless(inputLog.isEndless());
+        game.setLevel(replayedLevelPath);
+        if (statsPath != null) {
+            game.getFrameStats().setCsvOutput(statsPath, STATS_INTERVAL_NANOS);
+        }
+        game.initializeGame(imageReader, soundReader, inputListener, windowController);
+        long start = System.nanoTime();
+        while (inputListener.hasNextFrame() && !windowController.isCloseRequested()) {
+            game.update(inputListener.nextFrame());
+            framesReplayed++;
+        }
+        elapsedNanos += System.nanoTime() - start;
+        game.getFrameStats().writeCsv();
+    }
+
+    /**
+     * Getter for the replayed game, to inspect its state after run.
+     * @return The game, or null before run.
+     */
+    public BrickerGameManager getGame() {
+        return game;
+    }
+
+    /**
+     * Getter for number of frames replayed.
+     * @return Frames replayed so far.
+     */
+    public long getFramesReplayed() {
+        return framesReplayed;
+    }
+
+    /**
+     * Calculates replayed frames per wall-clock second.
+     * @return Frames per second, or zero if nothing ran yet.
+     */
+    public double getFramesPerSecond() {
+        if (elapsedNanos == 0) {
+            return 0;
+        }
+        return framesReplayed * NANOS_IN_SECOND / elapsedNanos;
+    }
+
+    /**
+     * Finds the level file to replay on, and makes sure it is the level the game was recorded
+     * on, since another level would make the replay silently diverge.
+     * @return Level file, or null if the game was recorded without one.
+     * @throws IOException If the level file can't be read or doesn't match the recording.
+     */
+    private Path checkLevel() throws IOException {
+        Path recordedLevelPath = inputLog.getLevelPath();
+        if (recordedLevelPath == null) {
+            if (levelPath != null) {
+                throw new IOException("The game was recorded without a level file, but " +
+                        levelPath + " was given");
+            }
+            return null;
+        }
+        Path replayedLevelPath = levelPath != null ? levelPath : recordedLevelPath;
+        if (InputLog.checksum(replayedLevelPath) != inputLog.getLevelChecksum()) {
+            throw new IOException("Level file " + replayedLevelPath +
+                    " is not the level the game was recorded on (" + recordedLevelPath + ")");
+        }
+        return replayedLevelPath;
+    }
+
+    /**
+     * Replays an input log.
+     * @param args The input log path, optionally --stats and a path to write frame
+     *             statistics as CSV, and --level and the recorded level file's path if it
+     *             moved since the recording.
+     * @throws IOException If a file can't be read or created.
+     */
+    public static void main(String[] args) throws IOException {
+        Path logPath = null;
+        Path statsPath = null;
+        Path levelPath = null;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals(STATS_OPTION) && i + 1 < args.length) {
+                statsPath = Paths.get(args[++i]);
+            } else if (args[i].equals(LEVEL_OPTION) && i + 1 < args.length) {
+                levelPath = Paths.get(args[++i]);
+            } else {
+                logPath = Paths.get(args[i]);
+            }
+        }
+        if (logPath == null) {
+            System.err.println("usage: InputReplay <input.log> [--stats file.csv] [--level file.bin]");
+            return;
+        }
+        InputLog inputLog = InputLog.read(logPath);
+        InputReplay replay = new InputReplay(inputLog);
+        replay.setStatsPath(statsPath);
+        replay.setLevel(levelPath);
+        replay.run();
+        System.out.printf("seed=%d frames=%d/%d won=%b lost=%b fps=%.1f%n", inputLog.getSeed(),
+                replay.getFramesReplayed(), inputLog.getFramesCount(),
+                replay.getGame().isGameWon(), replay.getGame().isGameLost(),
+                replay.getFramesPerSecond());
+    }
+}
@@ -0,0 +1,120 @@
+package bricker.main;
+
+import bricker.brick_strategies.BrickerCollisionStrategyFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class converts levels from a human-readable text form into the binary LevelFile format.
+ * Each line of the text form describes one brick: "x y width height strategy", where strategy
+ * is a strategy name (basic, extraBall, extraPaddle, turbo, extraHeart, double) or a numeric
+ * strategy id. An optional "grid originX originY cellWidth cellHeight" line gives the grid the
+ * bricks are laid out on. Empty lines and text after '#' are ignored.
+ */
+public class LevelConverter {
+    private static final String COMMENT = "#";
+    private static final String GRID_DIRECTIVE = "grid";
+    private static final int BRICK_FIELDS = 5;
+    private static final int GRID_FIELDS = 5;
+
+    /**
+     * Parses a level in text form.
+     * @param textPath Text level file.
+     * @return The parsed level.
+     * @throws IOException If the file can't be read or has a malformed line.
+     */
+    public static LevelFile parse(Path textPath) throws IOException {
+        List<float[]> bricks = new ArrayList<>();
+        List<Integer> strategyIds = new ArrayList<>();
+        float[] grid = new float[GRID_FIELDS - 1];
+        try (BufferedReader reader = Files.newBufferedReader(textPath, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                int commentStart = line.indexOf(COMMENT);
+                if (commentStart >= 0) {
+                    line = line.substring(0, commentStart);
+                }
+                line = line.trim();
+                if (line.isEmpty()) {
+                    continue;
+                }
+                String[] fields = line.split("\\s+");
+                try {
+                    if (fields[0].equals(GRID_DIRECTIVE) && fields.length == GRID_FIELDS) {
+                        for (int i = 0; i < grid.length; i++) {
+                            grid[i] = Float.parseFloat(fields[i + 1]);
+                        }
+                    } else if (fields.length == BRICK_FIELDS) {
+                        bricks.add(new float[]{Float.parseFloat(fields[0]),
+                                Float.parseFloat(fields[1]), Float.parseFloat(fields[2]),
+                                Float.parseFloat(fields[3])});
+                        strategyIds.add(parseStrategy(fields[4]));
+                    } else {
+                        throw new IOException(textPath + ":" + lineNumber +
+                                ": expected 'x y width height strategy'");
+                    }
+                } catch (IllegalArgumentException e) {
+                    throw new IOException(textPath + ":" + lineNumber + ": " + e.getMessage(), e);
+                }
+            }
+        }
+        BrickField brickField = new BrickField(bricks.size());
+        for (int i = 0; i < bricks.size(); i++) {
+            float[] brick = bricks.get(i);
+            brickField.add(brick[0], brick[1], brick[2], brick[3], strategyIds.get(i));
+        }
+        return new LevelFile(brickField, grid[0], grid[1], grid[2], grid[3]);
+    }
+
+    /**
+     * Converts a strategy name or numeric id into a strategy id.
+     * @param strategy Strategy name or id.
+     * @return The strategy id.
+     */
+    private static int parseStrategy(String strategy) {
+        switch (strategy) {
+            case "basic":
+                return BrickerCollisionStrategyFactory.BASIC_STRATEGY;
+            case "extraBall":
+                return BrickerCollisionStrategyFactory.EXTRA_BALL_STRATEGY;
+            case "extraPaddle":
+                return BrickerCollisionStrategyFactory.EXTRA_PADDLE_STRATEGY;
+            case "turbo":
+                return BrickerCollisionStrategyFactory.TURBO_STRATEGY;
+            case "extraHeart":
+                return BrickerCollisionStrategyFactory.EXTRA_HEART_STRATEGY;
+            case "double":
+                return BrickerCollisionStrategyFactory.DOUBLE_STRATEGY;
+            default:
+                int strategyId = Integer.parseInt(strategy);
+                if (strategyId < 0 || strategyId > Byte.MAX_VALUE) {
+                    throw new IllegalArgumentException("strategy id out of range: " + strategy);
+                }
+                return strategyId;
+        }
+    }
+
+    /**
+     * Converts a text level into a binary level file.
+     * @param args Text level path and binary level path.
+     * @throws IOException If a file can't be read or written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("usage: LevelConverter <level.txt> <level.bin>");
+            return;
+        }
+        LevelFile level = parse(Paths.get(args[0]));
+        level.write(Paths.get(args[1]));
+        System.out.println("wrote " + level.getBrickField().size() + " bricks to " + args[1]);
+    }
+}
@@ -0,0 +1,157 @@
+package bricker.main;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This class reads and writes Bricker levels in a compact binary format, so large levels open
+ * in milliseconds without parsing. Files are read through a memory-mapped FileChannel.
+ * <p>
+ * Layout (big-endian): int magic "BRKL", int version, int brick count, then four floats of
+ * grid hint (origin x, origin y, cell width, cell height; a zero cell size means no grid),
+ * followed by one 17-byte record per brick: float x, float y, float width, float height
+ * (top-left corner and size), and a byte strategy id.
+ */
+public class LevelFile {
+    private static final int MAGIC = 0x42524B4C;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 3 * Integer.BYTES + 4 * Float.BYTES;
+    private static final int RECORD_BYTES = 4 * Float.BYTES + Byte.BYTES;
+    private final BrickField brickField;
+    private final float gridOriginX;
+    private final float gridOriginY;
+    private final float cellWidth;
+    private final float cellHeight;
+
+    /**
+     * Constructor for LevelFile.
+     * @param brickField  Bricks of the level.
+     * @param gridOriginX X of the top-left corner of the bricks' grid.
+     * @param gridOriginY Y of the top-left corner of the bricks' grid.
+     * @param cellWidth   Horizontal distance between grid cells, zero if there is no grid.
+     * @param cellHeight  Vertical distance between grid cells, zero if there is no grid.
+     */
+    public LevelFile(BrickField brickField, float gridOriginX, float gridOriginY,
+                     float cellWidth, float cellHeight) {
+        this.brickField = brickField;
+        this.gridOriginX = gridOriginX;
+        this.gridOriginY = gridOriginY;
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+    }
+
+    /**
+     * Loads a level by memory-mapping its file.
+     * @param path Level file.
+     * @return The loaded level.
+     * @throws IOException If the file can't be read or is not a valid level.
+     */
+    public static LevelFile load(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_BYTES) {
+                throw new IOException("Not a level file, too short: " + path);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a level file, bad magic: " + path);
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported level version " + version + ": " + path);
+            }
+            int bricksCount = buffer.getInt();
+            if (bricksCount < 0 || fileSize != HEADER_BYTES + (long) bricksCount * RECORD_BYTES) {
+                throw new IOException("Level file size doesn't match its brick count: " + path);
+            }
+            float originX = buffer.getFloat();
+            float originY = buffer.getFloat();
+            float cellWidth = buffer.getFloat();
+            float cellHeight = buffer.getFloat();
+            BrickField brickField = new BrickField(bricksCount);
+            for (int i = 0; i < bricksCount; i++) {
+                brickField.add(buffer.getFloat(), buffer.getFloat(), buffer.getFloat(),
+                        buffer.getFloat(), buffer.get());
+            }
+            return new LevelFile(brickField, originX, originY, cellWidth, cellHeight);
+        }
+    }
+
+    /**
+     * Writes this level to a file, replacing it if it exists. Destroyed bricks are skipped.
+     * @param path File to write.
+     * @throws IOException If the file can't be written.
+     */
+    public void write(Path path) throws IOException {
+        int bricksCount = brickField.getAliveCount();
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + bricksCount * RECORD_BYTES);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(bricksCount);
+        buffer.putFloat(gridOriginX).putFloat(gridOriginY).putFloat(cellWidth).putFloat(cellHeight);
+        for (int i = 0; i < brickField.size(); i++) {
+            if (brickField.isAlive(i)) {
+                buffer.putFloat(brickField.getX(i)).putFloat(brickField.getY(i))
+                        .putFloat(brickField.getWidth(i)).putFloat(brickField.getHeight(i))
+                        .put((byte) brickField.getStrategyId(i));
+            }
+        }
+        buffer.flip();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Getter for the level's bricks.
+     * @return Brick field of the level.
+     */
+    public BrickField getBrickField() {
+        return brickField;
+    }
+
+    /**
+     * Checks if the level's bricks are laid out on a grid that can be used to index them.
+     * @return True if the level has a grid hint.
+     */
+    public boolean hasGrid() {
+        return cellWidth > 0 && cellHeight > 0;
+    }
+
+    /**
+     * Getter for the x of the grid's top-left corner.
+     * @return Grid origin x.
+     */
+    public float getGridOriginX() {
+        return gridOriginX;
+    }
+
+    /**
+     * Getter for the y of the grid's top-left corner.
+     * @return Grid origin y.
+     */
+    public float getGridOriginY() {
+        return gridOriginY;
+    }
+
+    /**
+     * Getter for the horizontal distance between grid cells.
+     * @return Cell width, zero if there is no grid.
+     */
+    public float getCellWidth() {
+        return cellWidth;
+    }
+
+    /**
+     * Getter for the vertical distance between grid cells.
+     * @return Cell height, zero if there is no grid.
+     */
+    public float getCellHeight() {
+        return cellHeight;
+    }
+}
@@ -0,0 +1,68 @@
+package bricker.main;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * This class is a bounded pool of reusable game objects. Objects that leave the game are
+ * released back to the pool and handed out again instead of allocating new ones. The pool
+ * also counts how many acquired objects are currently live in the game.
+ * @param <T> Type of pooled objects.
+ */
+public class ObjectPool<T> {
+    private final Deque<T> free = new ArrayDeque<>();
+    private final int capacity;
+    private int liveCount = 0;
+
+    /**
+     * Constructor for ObjectPool.
+     * @param capacity Maximum number of free objects kept for reuse.
+     */
+    public ObjectPool(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Takes a free object from the pool and counts it as live.
+     * @return A free object, or null if the pool is empty and the caller must allocate one.
+     */
+    public T acquire() {
+        liveCount++;
+        return free.poll();
+    }
+
+    /**
+     * Returns a live object to the pool. If the pool is full, the object is dropped.
+     * @param object Object that left the game.
+     */
+    public void release(T object) {
+        liveCount--;
+        if (free.size() < capacity) {
+            free.push(object);
+        }
+    }
+
+    /**
+     * Forgets all live objects, used when the game is rebuilt and they are discarded
+     * with it. Free objects are kept.
+     */
+    public void clearLive() {
+        liveCount = 0;
+    }
+
+    /**
+     * Getter for number of acquired objects that were not released yet.
+     * @return Live objects count.
+     */
+    public int getLiveCount() {
+        return liveCount;
+    }
+
+    /**
+     * Getter for number of free objects waiting to be reused.
+     * @return Pooled objects count.
+     */
+    public int getPooledCount() {
+        return free.size();
+    }
+}
@@ -0,0 +1,275 @@
+package bricker.main;
+
+import danogl.util.Vector2;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * This class runs a grid of balancing parameters, playing many independent headless games per
+ * parameter set across all cores, and reports win rate, game length and frame cost of each set.
+ * Every task owns its own games and random stream, so tasks share no mutable state and the
+ * sweep scales with the number of cores.
+ */
+public class ParameterSweep {
+    private static final String BALL_VELOCITY_OPTION = "--ballVelocity";
+    private static final String VELOCITY_FACTOR_OPTION = "--velocityFactor";
+    private static final String STRATEGY_RANGE_OPTION = "--strategyRange";
+    private static final String TURBO_HITS_OPTION = "--turboHits";
+    private static final String PADDLE_HITS_OPTION = "--paddleHits";
+    private static final String GAMES_OPTION = "--games";
+    private static final String GAMES_PER_TASK_OPTION = "--gamesPerTask";
+    private static final String ROWS_OPTION = "--rows";
+    private static final String COLUMNS_OPTION = "--columns";
+    private static final String MAX_FRAMES_OPTION = "--maxFrames";
+    private static final String SEED_OPTION = "--seed";
+    private static final String THREADS_OPTION = "--threads";
+    private static final String OUT_OPTION = "--out";
+    private static final String LIST_SEPARATOR = ",";
+    private static final String CSV_HEADER = "ballVelocity,velocityFactor,strategyRange," +
+            "turboHits,paddleHits,games,winRate,lossRate,timeoutRate,avgFrames,nsPerFrame";
+    private static final String DEFAULT_GAMES = "100";
+    private static final String DEFAULT_GAMES_PER_TASK = "10";
+    private static final String DEFAULT_ROWS = "7";
+    private static final String DEFAULT_COLUMNS = "8";
+    private static final String DEFAULT_MAX_FRAMES = "36000";
+    private static final String DEFAULT_SEED = "1";
+
+    private final int rows;
+    private final int columns;
+    private final int maxFramesPerGame;
+
+    /**
+     * This class holds the summed results of the games of one parameter set.
+     */
+    private static class SweepResult {
+        private final GameTuning tuning;
+        private int games = 0;
+        private int won = 0;
+        private int lost = 0;
+        private int timedOut = 0;
+        private long frames = 0;
+        private long nanos = 0;
+
+        /**
+         * Constructor for SweepResult.
+         * @param tuning Parameter set of the games.
+         */
+        SweepResult(GameTuning tuning) {
+            this.tuning = tuning;
+        }
+
+        /**
+         * Adds the results of a finished simulation.
+         * @param simulation Simulation that finished running.
+         */
+        void add(HeadlessSimulation simulation) {
+            games += simulation.getGamesFinished();
+            won += simulation.getGamesWon();
+            lost += simulation.getGamesLost();
+            timedOut += simulation.getGamesTimedOut();
+            frames += simulation.getFramesSimulated();
+            nanos += simulation.getElapsedNanos();
+        }
+
+        /**
+         * Formats the aggregated results as a CSV row.
+         * @return CSV row.
+         */
+        String toCsv() {
+            double gamesCount = Math.max(games, 1);
+            return String.format("%s,%d,%.4f,%.4f,%.4f,%.1f,%.1f", tuning, games,
+                    won / gamesCount, lost / gamesCount, timedOut / gamesCount,
+                    frames / gamesCount, frames == 0 ? 0.0 : (double) nanos / frames);
+        }
+    }
+
+    /**
+     * Constructor for ParameterSweep.
+     * @param rows             Number of brick rows of every game.
+     * @param columns          Number of brick columns of every game.
+     * @param maxFramesPerGame Frames after which a game that did not end is counted as
+     *                         timed out.
+     */
+    public ParameterSweep(int rows, int columns, int maxFramesPerGame) {
+        this.rows = rows;
+        this.columns = columns;
+        this.maxFramesPerGame = maxFramesPerGame;
+    }
+
+    /**
+     * Runs the given games for every parameter set on a fork-join pool.
+     * @param tunings      Parameter sets to run.
+     * @param games        Games to run per parameter set.
+     * @param gamesPerTask Games each task runs back to back.
+     * @param seed         Seed the tasks' seeds are derived from.
+     * @param threads      Number of worker threads.
+     * @return One CSV row of aggregated results per parameter set, in input order.
+     * @throws InterruptedException If interrupted while waiting for the tasks.
+     * @throws ExecutionException   If a game failed.
+     */
+    public List<String> run(List<GameTuning> tunings, int games, int gamesPerTask, long seed,
+                            int threads) throws InterruptedException, ExecutionException {
+        SplittableRandom seeds = new SplittableRandom(seed);
+        ExecutorService pool = new ForkJoinPool(threads);
+        List<SweepResult> results = new ArrayList<>();
+        List<List<Future<HeadlessSimulation>>> futures = new ArrayList<>();
+        try {
+            for (GameTuning tuning : tunings) {
+                results.add(new SweepResult(tuning));
+                List<Future<HeadlessSimulation>> tuningFutures = new ArrayList<>();
+                for (int remaining = games; remaining > 0; remaining -= gamesPerTask) {
+                    int taskGames = Math.min(gamesPerTask, remaining);
+                    long taskSeed = seeds.nextLong();
+                    tuningFutures.add(pool.submit(() -> runTask(tuning, taskGames, taskSeed)));
+                }
+                futures.add(tuningFutures);
+            }
+            for (int i = 0; i < results.size(); i++) {
+                for (Future<HeadlessSimulation> future : futures.get(i)) {
+                    results.get(i).add(future.get());
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        List<String> csvRows = new ArrayList<>();
+        for (SweepResult result : results) {
+            csvRows.add(result.toCsv());
+        }
+        return csvRows;
+    }
+
+    /**
+     * Runs the games of one task.
+     * @param tuning Parameter set of the games.
+     * @param games  Number of games to run.
+     * @param seed   Seed of the task's games.
+     * @return The finished simulation holding the results.
+     * @throws IOException Never, since the task writes no statistics.
+     */
+    private HeadlessSimulation runTask(GameTuning tuning, int games, long seed)
+            throws IOException {
+        HeadlessSimulation simulation = new HeadlessSimulation(new Vector2(columns, rows),
+                (message, answered) -> true, maxFramesPerGame, seed, tuning);
+        simulation.run(games);
+        return simulation;
+    }
+
+    /**
+     * Builds every combination of the given parameter values.
+     * @param ballVelocities   Ball velocities.
+     * @param velocityFactors  Turbo velocity factors.
+     * @param strategyRanges   Strategy roll ranges.
+     * @param turboHits        Turbo collision limits.
+     * @param paddleHits       Extra paddle hit limits.
+     * @return All parameter sets.
+     */
+    public static List<GameTuning> grid(float[] ballVelocities, float[] velocityFactors,
+                                        int[] strategyRanges, int[] turboHits,
+                                        int[] paddleHits) {
+        List<GameTuning> tunings = new ArrayList<>();
+        for (float ballVelocity : ballVelocities) {
+            for (float velocityFactor : velocityFactors) {
+                for (int strategyRange : strategyRanges) {
+                    for (int turbo : turboHits) {
+                        for (int paddle : paddleHits) {
+                            tunings.add(new GameTuning(ballVelocity, velocityFactor,
+                                    strategyRange, turbo, paddle));
+                        }
+                    }
+                }
+            }
+        }
+        return tunings;
+    }
+
+    /**
+     * Main method of the parameter sweep. Every parameter option takes a comma separated
+     * list of values; a missing option uses the game's default value.
+     * @param args Command arguments: [--ballVelocity v,..] [--velocityFactor f,..]
+     *             [--strategyRange r,..] [--turboHits n,..] [--paddleHits n,..] [--games n]
+     *             [--gamesPerTask n] [--rows n] [--columns n] [--maxFrames n] [--seed n]
+     *             [--threads n] [--out sweep.csv].
+     * @throws Exception If a game failed or the output can't be written.
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            options.put(args[i], args[i + 1]);
+        }
+        GameTuning defaults = GameTuning.DEFAULT;
+        List<GameTuning> tunings = grid(
+                parseFloats(options.get(BALL_VELOCITY_OPTION), defaults.getBallVelocity()),
+                parseFloats(options.get(VELOCITY_FACTOR_OPTION), defaults.getVelocityFactor()),
+                parseInts(options.get(STRATEGY_RANGE_OPTION), defaults.getStrategyRollRange()),
+                parseInts(options.get(TURBO_HITS_OPTION), defaults.getTurboMaxCollisions()),
+                parseInts(options.get(PADDLE_HITS_OPTION),
+                        defaults.getExtraPaddleMaxCollisions()));
+        ParameterSweep sweep = new ParameterSweep(
+                Integer.parseInt(options.getOrDefault(ROWS_OPTION, DEFAULT_ROWS)),
+                Integer.parseInt(options.getOrDefault(COLUMNS_OPTION, DEFAULT_COLUMNS)),
+                Integer.parseInt(options.getOrDefault(MAX_FRAMES_OPTION, DEFAULT_MAX_FRAMES)));
+        List<String> rows = new ArrayList<>();
+        rows.add(CSV_HEADER);
+        rows.addAll(sweep.run(tunings,
+                Integer.parseInt(options.getOrDefault(GAMES_OPTION, DEFAULT_GAMES)),
+                Integer.parseInt(options.getOrDefault(GAMES_PER_TASK_OPTION,
+                        DEFAULT_GAMES_PER_TASK)),
+                Long.parseLong(options.getOrDefault(SEED_OPTION, DEFAULT_SEED)),
+                Integer.parseInt(options.getOrDefault(THREADS_OPTION,
+                        Integer.toString(Runtime.getRuntime().availableProcessors())))));
+        for (String row : rows) {
+            System.out.println(row);
+        }
+        if (options.containsKey(OUT_OPTION)) {
+            Files.write(Paths.get(options.get(OUT_OPTION)), rows);
+        }
+    }
+
+    /**
+     * Parses a comma separated list of floats.
+     * @param values       List to parse, may be null.
+     * @param defaultValue Value to use if the list is null.
+     * @return Parsed values.
+     */
+    private static float[] parseFloats(String values, float defaultValue) {
+        if (values == null) {
+            return new float[]{defaultValue};
+        }
+        String[] parts = values.split(LIST_SEPARATOR);
+        float[] parsed = new float[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            parsed[i] = Float.parseFloat(parts[i]);
+        }
+        return parsed;
+    }
+
+    /**
+     * Parses a comma separated list of ints.
+     * @param values       List to parse, may be null.
+     * @param defaultValue Value to use if the list is null.
+     * @return Parsed values.
+     */
+    private static int[] parseInts(String values, int defaultValue) {
+        if (values == null) {
+            return new int[]{defaultValue};
+        }
+        String[] parts = values.split(LIST_SEPARATOR);
+        int[] parsed = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            parsed[i] = Integer.parseInt(parts[i]);
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,96 @@
+package bricker.main;
+
+import danogl.GameObject;
+import danogl.util.Vector2;
+
+import java.util.Arrays;
+
+/**
+ * This class draws moving objects between their last two simulated positions, so motion looks
+ * smooth when frames don't line up with fixed simulation steps. The engine renders an object
+ * where its transform is, so the interpolated position is written to the transform after the
+ * simulation and the simulated position is put back before the next simulation step.
+ */
+public class RenderInterpolator {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int GROWTH_FACTOR = 2;
+    private final float maxDistance;
+    private GameObject[] objects = new GameObject[INITIAL_CAPACITY];
+    private float[] previousX = new float[INITIAL_CAPACITY];
+    private float[] previousY = new float[INITIAL_CAPACITY];
+    private float[] currentX = new float[INITIAL_CAPACITY];
+    private float[] currentY = new float[INITIAL_CAPACITY];
+    private int size = 0;
+    private boolean isApplied = false;
+
+    /**
+     * Constructor for RenderInterpolator.
+     * @param maxDistance Longest move that is interpolated. Objects that moved further in one
+     *                    step were placed rather than moved, and are drawn where they are.
+     */
+    public RenderInterpolator(float maxDistance) {
+        this.maxDistance = maxDistance;
+    }
+
+    /**
+     * Forgets every captured object.
+     */
+    public void clear() {
+        Arrays.fill(objects, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Captures an object's position before the last simulation step of a frame.
+     * @param obj Moving object.
+     */
+    public void capture(GameObject obj) {
+        if (size == objects.length) {
+            int capacity = objects.length * GROWTH_FACTOR;
+            objects = Arrays.copyOf(objects, capacity);
+            previousX = Arrays.copyOf(previousX, capacity);
+            previousY = Arrays.copyOf(previousY, capacity);
+            currentX = Arrays.copyOf(currentX, capacity);
+            currentY = Arrays.copyOf(currentY, capacity);
+        }
+        Vector2 topLeft = obj.getTopLeftCorner();
+        objects[size] = obj;
+        previousX[size] = topLeft.x();
+        previousY[size] = topLeft.y();
+        size++;
+    }
+
+    /**
+     * Moves the captured objects to their interpolated positions for rendering, remembering
+     * their simulated positions.
+     * @param alpha How far the frame is from the previous simulated state to the current one.
+     */
+    public void interpolate(float alpha) {
+        for (int i = 0; i < size; i++) {
+            Vector2 topLeft = objects[i].getTopLeftCorner();
+            currentX[i] = topLeft.x();
+            currentY[i] = topLeft.y();
+            float dx = currentX[i] - previousX[i];
+            float dy = currentY[i] - previousY[i];
+            if (dx * dx + dy * dy <= maxDistance * maxDistance) {
+                objects[i].transform().setTopLeftCorner(previousX[i] + dx * alpha,
+                        previousY[i] + dy * alpha);
+            }
+        }
+        isApplied = true;
+    }
+
+    /**
+     * Puts the captured objects back at their simulated positions. Does nothing if they are
+     * already there.
+     */
+    public void restore() {
+        if (!isApplied) {
+            return;
+        }
+        for (int i = 0; i < size; i++) {
+            objects[i].transform().setTopLeftCorner(currentX[i], currentY[i]);
+        }
+        isApplied = false;
+    }
+}
@@ -0,0 +1,147 @@
+package bricker.main;
+
+import danogl.gui.UserInputListener;
+import danogl.util.Vector2;
+
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * This class is a user input listener that plays back an InputLog: the game reads the keys
+ * exactly as they were in each recorded frame. The driver calls nextFrame before each update
+ * and uses the returned delta time. The mouse is never used.
+ */
+public class ReplayInputListener implements UserInputListener {
+    private static final int NO_MORE_ENTRIES = Integer.MAX_VALUE;
+    private final ByteBuffer entries;
+    private final int framesCount;
+    private int frame = 0;
+    private int nextEntryFrame;
+    private int keysMask = 0;
+    private int previousKeysMask = 0;
+    private float deltaTime = 0;
+
+    /**
+     * Constructor for ReplayInputListener.
+     * @param inputLog Log to play back.
+     */
+    public ReplayInputListener(InputLog inputLog) {
+        this.entries = ByteBuffer.wrap(inputLog.getEntries());
+        this.framesCount = inputLog.getFramesCount();
+        this.nextEntryFrame = readNextEntryFrame();
+    }
+
+    /**
+     * Checks if there are frames left to play back.
+     * @return True if nextFrame can be called.
+     */
+    public boolean hasNextFrame() {
+        return frame < framesCount;
+    }
+
+    /**
+     * Moves to the next recorded frame.
+     * @return Delta time of the frame.
+     */
+    public float nextFrame() {
+        previousKeysMask = keysMask;
+        if (frame == nextEntryFrame) {
+            int keysByte = entries.get() & 0xFF;
+            keysMask = keysByte & ~InputLog.DELTA_TIME_FLAG;
+            if ((keysByte & InputLog.DELTA_TIME_FLAG) != 0) {
+                deltaTime = entries.getFloat();
+            }
+            nextEntryFrame = readNextEntryFrame();
+        }
+        frame++;
+        return deltaTime;
+    }
+
+    /**
+     * Reads the frame count of the next entry.
+     * @return Frame the next entry applies to, or NO_MORE_ENTRIES.
+     */
+    private int readNextEntryFrame() {
+        return entries.hasRemaining() ? frame + InputLog.readVarInt(entries) : NO_MORE_ENTRIES;
+    }
+
+    /**
+     * Checks if a key is pressed in the current frame.
+     * @param keyCode Key code to check.
+     * @return True if the key was pressed in the recorded frame.
+     */
+    @Override
+    public boolean isKeyPressed(int keyCode) {
+        return isInMask(keysMask, keyCode);
+    }
+
+    /**
+     * Getter for the keys pressed in the current frame.
+     * @return Pressed recorded keys.
+     */
+    @Override
+    public Set<Integer> pressedKeys() {
+        Set<Integer> keys = new HashSet<>();
+        for (int key : InputLog.RECORDED_KEYS) {
+            if (isKeyPressed(key)) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Checks if a key was pressed this frame.
+     * @param keyCode Key code to check.
+     * @return True if the key is pressed now and was not in the previous frame.
+     */
+    @Override
+    public boolean wasKeyPressedThisFrame(int keyCode) {
+        return isInMask(keysMask, keyCode) && !isInMask(previousKeysMask, keyCode);
+    }
+
+    /**
+     * Checks if a key was released this frame.
+     * @param keyCode Key code to check.
+     * @return True if the key was pressed in the previous frame and is not now.
+     */
+    @Override
+    public boolean wasKeyReleasedThisFrame(int keyCode) {
+        return !isInMask(keysMask, keyCode) && isInMask(previousKeysMask, keyCode);
+    }
+
+    /**
+     * Checks if a mouse button is pressed.
+     * @param button Button to check.
+     * @return Always false, the mouse is not recorded.
+     */
+    @Override
+    public boolean isMouseButtonPressed(int button) {
+        return false;
+    }
+
+    /**
+     * Getter for the mouse position.
+     * @return Origin, the mouse is not recorded.
+     */
+    @Override
+    public Vector2 getMouseScreenCoord() {
+        return Vector2.ZERO;
+    }
+
+    /**
+     * Checks if a key's bit is set in a keys mask.
+     * @param mask    Keys mask.
+     * @param keyCode Key code to check.
+     * @return True if the key is recorded and its bit is set.
+     */
+    private static boolean isInMask(int mask, int keyCode) {
+        for (int i = 0; i < InputLog.RECORDED_KEYS.length; i++) {
+            if (InputLog.RECORDED_KEYS[i] == keyCode) {
+                return (mask & (1 << i)) != 0;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,124 @@
+package bricker.main;
+
+import danogl.gui.Sound;
+
+import java.util.Arrays;
+
+/**
+ * This class limits how many sounds the game plays at once. Plays of the same sound that come
+ * within a short merge window of each other are merged into one, and no more than a fixed
+ * number of voices are started within a voice's estimated duration. Since danogl sounds can't
+ * be stopped once started, a play that would exceed the voice cap is dropped instead of cutting
+ * an older voice. A null sound (headless mode) is counted but never played.
+ */
+public class SoundMixer {
+    private static final int INITIAL_SOUNDS = 4;
+    private static final int GROWTH_FACTOR = 2;
+    private final int maxVoices;
+    private final long voiceDurationNanos;
+    private final long mergeWindowNanos;
+    private final long[] voiceEndNanos;
+    private int oldestVoice = 0;
+    private int activeVoices = 0;
+    private Sound[] sounds = new Sound[INITIAL_SOUNDS];
+    private long[] lastPlayedNanos = new long[INITIAL_SOUNDS];
+    private int soundsCount = 0;
+    private long playedCount = 0;
+    private long mergedCount = 0;
+    private long droppedCount = 0;
+
+    /**
+     * Constructor for SoundMixer.
+     * @param maxVoices          Maximum number of sounds playing at once.
+     * @param voiceDurationNanos Estimated duration of a voice, in nanoseconds.
+     * @param mergeWindowNanos   Plays of the same sound closer than this are merged.
+     */
+    public SoundMixer(int maxVoices, long voiceDurationNanos, long mergeWindowNanos) {
+        this.maxVoices = maxVoices;
+        this.voiceDurationNanos = voiceDurationNanos;
+        this.mergeWindowNanos = mergeWindowNanos;
+        this.voiceEndNanos = new long[maxVoices];
+    }
+
+    /**
+     * Plays a sound, unless it's merged with a recent play of the same sound or all voices
+     * are busy.
+     * @param sound Sound to play, may be null.
+     */
+    public void play(Sound sound) {
+        long now = System.nanoTime();
+        int soundIndex = indexOf(sound);
+        if (now - lastPlayedNanos[soundIndex] < mergeWindowNanos) {
+            mergedCount++;
+            return;
+        }
+        retireFinishedVoices(now);
+        if (activeVoices >= maxVoices) {
+            droppedCount++;
+            return;
+        }
+        voiceEndNanos[(oldestVoice + activeVoices) % maxVoices] = now + voiceDurationNanos;
+        activeVoices++;
+        lastPlayedNanos[soundIndex] = now;
+        playedCount++;
+        if (sound != null) {
+            sound.play();
+        }
+    }
+
+    /**
+     * Getter for number of sounds actually played.
+     * @return Played sounds count.
+     */
+    public long getPlayedCount() {
+        return playedCount;
+    }
+
+    /**
+     * Getter for number of plays merged into a recent play of the same sound.
+     * @return Merged plays count.
+     */
+    public long getMergedCount() {
+        return mergedCount;
+    }
+
+    /**
+     * Getter for number of plays dropped because all voices were busy.
+     * @return Dropped plays count.
+     */
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+
+    /**
+     * Frees the voices whose estimated duration has passed, oldest first.
+     * @param now Current time in nanoseconds.
+     */
+    private void retireFinishedVoices(long now) {
+        while (activeVoices > 0 && voiceEndNanos[oldestVoice] <= now) {
+            oldestVoice = (oldestVoice + 1) % maxVoices;
+            activeVoices--;
+        }
+    }
+
+    /**
+     * Finds the slot tracking a sound's last play, adding one if the sound is new.
+     * The game only has a few sounds, so a linear search is enough.
+     * @param sound Sound to find, may be null.
+     * @return Slot index.
+     */
+    private int indexOf(Sound sound) {
+        for (int i = 0; i < soundsCount; i++) {
+            if (sounds[i] == sound) {
+                return i;
+            }
+        }
+        if (soundsCount == sounds.length) {
+            sounds = Arrays.copyOf(sounds, soundsCount * GROWTH_FACTOR);
+            lastPlayedNanos = Arrays.copyOf(lastPlayedNanos, soundsCount * GROWTH_FACTOR);
+        }
+        sounds[soundsCount] = sound;
+        lastPlayedNanos[soundsCount] = Long.MIN_VALUE / 2;
+        return soundsCount++;
+    }
+}
@@ -0,0 +1,165 @@
+package bricker.main;
+
+import danogl.GameObject;
+import danogl.util.Vector2;
+
+/**
+ * This class finds the earliest impact of a moving box against other boxes during a step
+ * (swept AABB), so fast objects hit thin ones instead of passing through them between
+ * frames. A test is started with begin, each candidate is given to test, and the earliest
+ * impact found is then read from the getters. Targets may move too: only the motion relative
+ * to the target counts. Boxes that already overlap at the start of the step are not impacts.
+ */
+public class SweptCollision {
+    private static final float NO_IMPACT = 1;
+    private float moverX;
+    private float moverY;
+    private float moverWidth;
+    private float moverHeight;
+    private float dx;
+    private float dy;
+    private float earliestTime = NO_IMPACT;
+    private GameObject earliestTarget;
+    private Vector2 earliestNormal;
+
+    /**
+     * Starts a new test of a moving box.
+     * @param x      X of the box's top-left corner at the start of the step.
+     * @param y      Y of the box's top-left corner at the start of the step.
+     * @param width  Width of the box.
+     * @param height Height of the box.
+     * @param dx     Horizontal displacement during the step.
+     * @param dy     Vertical displacement during the step.
+     */
+    public void begin(float x, float y, float width, float height, float dx, float dy) {
+        this.moverX = x;
+        this.moverY = y;
+        this.moverWidth = width;
+        this.moverHeight = height;
+        this.dx = dx;
+        this.dy = dy;
+        this.earliestTime = NO_IMPACT;
+        this.earliestTarget = null;
+        this.earliestNormal = null;
+    }
+
+    /**
+     * Tests the moving box against a target, keeping the impact if it's the earliest so far.
+     * @param target   Target object.
+     * @param targetDx Horizontal displacement of the target during the step.
+     * @param targetDy Vertical displacement of the target during the step.
+     */
+    public void test(GameObject target, float targetDx, float targetDy) {
+        Vector2 topLeft = target.getTopLeftCorner();
+        Vector2 dimensions = target.getDimensions();
+        float relativeDx = dx - targetDx;
+        float relativeDy = dy - targetDy;
+        float entryX = entryTime(moverX, moverWidth, relativeDx, topLeft.x(), dimensions.x());
+        float exitX = exitTime(moverX, moverWidth, relativeDx, topLeft.x(), dimensions.x());
+        float entryY = entryTime(moverY, moverHeight, relativeDy, topLeft.y(), dimensions.y());
+        float exitY = exitTime(moverY, moverHeight, relativeDy, topLeft.y(), dimensions.y());
+        float entry = Math.max(entryX, entryY);
+        float exit = Math.min(exitX, exitY);
+        if (entry < 0 || entry >= earliestTime || entry >= exit) {
+            return;
+        }
+        earliestTime = entry;
+        earliestTarget = target;
+        if (entryX > entryY) {
+            earliestNormal = relativeDx > 0 ? Vector2.LEFT : Vector2.RIGHT;
+        } else {
+            earliestNormal = relativeDy > 0 ? Vector2.UP : Vector2.DOWN;
+        }
+    }
+
+    /**
+     * Calculates when two intervals start overlapping along an axis, as a fraction of the
+     * step.
+     * @param moverMin    Start of the moving interval.
+     * @param moverSize   Length of the moving interval.
+     * @param delta       Displacement of the moving interval during the step.
+     * @param targetMin   Start of the target interval.
+     * @param targetSize  Length of the target interval.
+     * @return Entry time; negative infinity if they always overlap, positive infinity if
+     *         they never do.
+     */
+    private static float entryTime(float moverMin, float moverSize, float delta,
+                                   float targetMin, float targetSize) {
+        if (delta > 0) {
+            return (targetMin - (moverMin + moverSize)) / delta;
+        }
+        if (delta < 0) {
+            return (targetMin + targetSize - moverMin) / delta;
+        }
+        return overlaps(moverMin, moverSize, targetMin, targetSize) ?
+                Float.NEGATIVE_INFINITY : Float.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Calculates when two intervals stop overlapping along an axis, as a fraction of the
+     * step.
+     * @param moverMin    Start of the moving interval.
+     * @param moverSize   Length of the moving interval.
+     * @param delta       Displacement of the moving interval during the step.
+     * @param targetMin   Start of the target interval.
+     * @param targetSize  Length of the target interval.
+     * @return Exit time; positive infinity if they always overlap, negative infinity if
+     *         they never do.
+     */
+    private static float exitTime(float moverMin, float moverSize, float delta,
+                                  float targetMin, float targetSize) {
+        if (delta > 0) {
+            return (targetMin + targetSize - moverMin) / delta;
+        }
+        if (delta < 0) {
+            return (targetMin - (moverMin + moverSize)) / delta;
+        }
+        return overlaps(moverMin, moverSize, targetMin, targetSize) ?
+                Float.POSITIVE_INFINITY : Float.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * Checks if two intervals overlap.
+     * @param aMin  Start of the first interval.
+     * @param aSize Length of the first interval.
+     * @param bMin  Start of the second interval.
+     * @param bSize Length of the second interval.
+     * @return True if they overlap.
+     */
+    private static boolean overlaps(float aMin, float aSize, float bMin, float bSize) {
+        return aMin < bMin + bSize && bMin < aMin + aSize;
+    }
+
+    /**
+     * Checks if an impact was found since begin.
+     * @return True if the moving box hits a target during the step.
+     */
+    public boolean hasImpact() {
+        return earliestTarget != null;
+    }
+
+    /**
+     * Getter for the time of the earliest impact.
+     * @return Fraction of the step in [0,1), or 1 if there is no impact.
+     */
+    public float getTime() {
+        return earliestTime;
+    }
+
+    /**
+     * Getter for the target of the earliest impact.
+     * @return The target, or null if there is no impact.
+     */
+    public GameObject getTarget() {
+        return earliestTarget;
+    }
+
+    /**
+     * Getter for the normal of the earliest impact, pointing from the target towards the
+     * moving box.
+     * @return Unit normal, or null if there is no impact.
+     */
+    public Vector2 getNormal() {
+        return earliestNormal;
+    }
+}